@@ -0,0 +1,140 @@
+package com.stano.daterange;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * A {@link PeriodNavigation} for semi-annual and annual periods whose start day may be missing
+ * from some of the months they fall in, placed by a {@link LeapDayPolicy}.
+ *
+ * <p>Periods are numbered exactly as by {@link MonthStepNavigation}: by the proleptic month they
+ * nominally start in, divided by the number of months per period. A period's start is worked out
+ * from its index in constant time, so N-step jumps and containing-period lookups never step
+ * through the periods in between.
+ */
+final class AnniversaryNavigation extends PeriodNavigation {
+  private final int months; // months per period; 6 or 12
+  private final int monthOffset; // proleptic month of any period start, modulo months
+  private final long anchorIndex;
+  private final int anchorDay;
+  private final LeapDayPolicy policy;
+
+  /**
+   * Gets the navigation rule for periods of the given number of months, one of which starts on
+   * anchorDate, placed by the given policy.
+   *
+   * @param anchorDate The start date of any one period in the sequence.
+   * @param months The number of calendar months per period; 6 or 12.
+   * @param policy Where periods start when their start day is missing from the month.
+   * @return The navigation rule; the shared {@link MonthStepNavigation} for {@link
+   *     LeapDayPolicy#LAST_DAY_OF_MONTH}.
+   */
+  static PeriodNavigation of(LocalDate anchorDate, int months, LeapDayPolicy policy) {
+    if (anchorDate == null) {
+      throw new IllegalArgumentException("anchor date required");
+    }
+    if (policy == null) {
+      throw new IllegalArgumentException("leap day policy required");
+    }
+    if (policy == LeapDayPolicy.LAST_DAY_OF_MONTH) {
+      return MonthStepNavigation.startingOn(anchorDate, months);
+    }
+    return new AnniversaryNavigation(anchorDate, months, policy);
+  }
+
+  /**
+   * Gets the number of calendar months per period of a range built by the semi-annual or annual
+   * factories, with or without a leap-day policy.
+   *
+   * @param range The range to check.
+   * @return The number of months per period, or 0 if range does not step by whole months.
+   */
+  static int monthsPerPeriod(DateRange range) {
+    if (range == null) {
+      throw new IllegalArgumentException("range required");
+    }
+    DateRangeNavigation navigation = range.navigation();
+    if (navigation instanceof AnniversaryNavigation anniversary) {
+      return anniversary.months;
+    }
+    if (navigation instanceof MonthStepNavigation monthStep) {
+      return monthStep.months();
+    }
+    return 0;
+  }
+
+  @Override
+  long indexOf(LocalDate date) {
+    long index = Math.floorDiv(prolepticMonth(date) - monthOffset, months);
+    // A period starts in its nominal month or on the 1st of the month after, so a date is either
+    // in the period nominally starting in its month or in the one before.
+    return startEpochDayOf(index) > date.toEpochDay() ? index - 1 : index;
+  }
+
+  @Override
+  LocalDate startOf(long index) {
+    return LocalDate.ofEpochDay(startEpochDayOf(index));
+  }
+
+  @Override
+  long startEpochDayOf(long index) {
+    long month = index * months + monthOffset;
+    int day = policy == LeapDayPolicy.DRIFT ? driftedDay(index) : anchorDay;
+    if (day > lengthOf(month)) {
+      return firstEpochDayOf(month + 1); // FIRST_DAY_OF_NEXT_MONTH; drifted days always fit
+    }
+    return firstEpochDayOf(month) + day - 1;
+  }
+
+  @Override
+  DateRange rangeAt(long index) {
+    return DateRange.ofWithNavigation(
+        LocalDate.ofEpochDay(startEpochDayOf(index)),
+        LocalDate.ofEpochDay(startEpochDayOf(index + 1) - 1),
+        this);
+  }
+
+  /**
+   * Gets the start day of a drifting period: the anchor day, capped by the length of every month
+   * passed on the way from the anchor's period. Two passes through each month of the cycle reach
+   * every month length the whole chain could contain (two consecutive Februaries always include a
+   * common year), so at most 24 / months steps are taken.
+   */
+  private int driftedDay(long index) {
+    long distance = Math.abs(index - anchorIndex);
+    long step = index > anchorIndex ? 1 : -1;
+    int day = anchorDay;
+    for (long i = 1; i <= Math.min(distance, 24 / months); i++) {
+      day = Math.min(day, lengthOf((anchorIndex + i * step) * months + monthOffset));
+    }
+    return day;
+  }
+
+  private static long firstEpochDayOf(long prolepticMonth) {
+    int year = Math.toIntExact(Math.floorDiv(prolepticMonth, 12));
+    int month = Math.floorMod(prolepticMonth, 12) + 1;
+    if (MonthBoundaryCache.covers(year)) {
+      return MonthBoundaryCache.boundaries(1, year)[month - 1];
+    }
+    return LocalDate.of(year, month, 1).toEpochDay();
+  }
+
+  private static int lengthOf(long prolepticMonth) {
+    int year = Math.toIntExact(Math.floorDiv(prolepticMonth, 12));
+    return Month.of(Math.floorMod(prolepticMonth, 12) + 1).length(Year.isLeap(year));
+  }
+
+  private static long prolepticMonth(LocalDate date) {
+    return date.getYear() * 12L + date.getMonthValue() - 1;
+  }
+
+  private AnniversaryNavigation(LocalDate anchorDate, int months, LeapDayPolicy policy) {
+    long anchorMonth = prolepticMonth(anchorDate);
+    this.months = months;
+    this.monthOffset = Math.floorMod(anchorMonth, months);
+    this.anchorIndex = Math.floorDiv(anchorMonth, months);
+    this.anchorDay = anchorDate.getDayOfMonth();
+    this.policy = policy;
+  }
+}
@@ -2,15 +2,16 @@ package com.stano.daterange;
 
 import java.time.LocalDate;
 
-import static com.stano.datetime.DateUtils.addYears;
-import static com.stano.datetime.DateUtils.subtractYears;
-
 /**
  * Static factory for building 1-year {@link DateRange}s that navigate {@link DateRange#prior()} and
  * {@link DateRange#next()} between consecutive years.
  *
- * <p>A range starting on February 29th ends on February 28th of the following year, since the
- * following year is not guaranteed to be a leap year.
+ * <p>Every range is a period of a sequence whose ranges start on the same day of the same month
+ * each year, or on the last day of the month when that month is shorter. A range starting on
+ * February 29th therefore ends on February 27th of a common year, the day before the next range
+ * starts on February 28th, and ranges never overlap or leave gaps. The overloads taking a {@link
+ * LeapDayPolicy} can instead start such periods on the 1st of the following month, or let the
+ * start day drift to February 28th for good.
  *
  * <p>This class is not instantiable.
  */
@@ -22,9 +23,22 @@ public final class AnnualDateRange {
    * @return A new 1-year DateRange starting on startDate.
    */
   public static DateRange withStartDate(LocalDate startDate) {
-    LocalDate endDate = endForStart(startDate);
-    return DateRange.ofWithPriorNext(
-        startDate, endDate, AnnualDateRange::prior, AnnualDateRange::next);
+    PeriodNavigation navigation = MonthStepNavigation.startingOn(startDate, 12);
+    return navigation.rangeAt(navigation.indexOf(startDate));
+  }
+
+  /**
+   * Creates a 1-year range starting on the given date, in a sequence whose periods are placed by
+   * the given leap-day policy wherever their start day is missing from the month.
+   *
+   * @param startDate The start date of the range.
+   * @param policy Where periods start when their start day is missing from the month.
+   * @return A new 1-year DateRange starting on startDate, ending the day before the next period
+   *     starts.
+   */
+  public static DateRange withStartDate(LocalDate startDate, LeapDayPolicy policy) {
+    PeriodNavigation navigation = AnniversaryNavigation.of(startDate, 12, policy);
+    return navigation.rangeAt(navigation.indexOf(startDate));
   }
 
   /**
@@ -34,30 +48,80 @@ public final class AnnualDateRange {
    * @return A new 1-year DateRange ending on endDate.
    */
   public static DateRange withEndDate(LocalDate endDate) {
-    LocalDate startDate = subtractYears(endDate, 1).plusDays(1);
-    return DateRange.ofWithPriorNext(
-        startDate, endDate, AnnualDateRange::prior, AnnualDateRange::next);
+    // The sequence whose next range starts the day after endDate.
+    PeriodNavigation navigation = MonthStepNavigation.startingOn(endDate.plusDays(1), 12);
+    return navigation.rangeAt(navigation.indexOf(endDate));
   }
 
-  static DateRange prior(DateRange dr) {
-    LocalDate start = subtractYears(dr.getStartDate(), 1);
-    LocalDate end = endForStart(start);
-    return DateRange.ofWithPriorNext(start, end, AnnualDateRange::prior, AnnualDateRange::next);
+  /**
+   * Gets the index of the 1-year range containing the given date, in the sequence of ranges
+   * anchored on anchorDate.
+   *
+   * <p>Ranges are numbered by the proleptic month (year * 12 + month - 1) they start in, divided
+   * by 12, so indexes are dense and ordered and can be used as array offsets and sort keys. The
+   * lookup is plain arithmetic and allocates nothing.
+   *
+   * @param date The date to locate.
+   * @param anchorDate The start date of any one range in the sequence.
+   * @return The index of the range containing date.
+   */
+  public static long periodIndexOf(LocalDate date, LocalDate anchorDate) {
+    return MonthStepNavigation.startingOn(anchorDate, 12).indexOf(date);
   }
 
-  static DateRange next(DateRange dr) {
-    LocalDate start = addYears(dr.getStartDate(), 1);
-    LocalDate end = endForStart(start);
-    return DateRange.ofWithPriorNext(start, end, AnnualDateRange::prior, AnnualDateRange::next);
+  /**
+   * Gets the 1-year range with the given index, as numbered by {@link #periodIndexOf(LocalDate,
+   * LocalDate)}.
+   *
+   * @param index The range index.
+   * @param anchorDate The start date of any one range in the sequence.
+   * @return A new 1-year DateRange for that index.
+   */
+  public static DateRange rangeAt(long index, LocalDate anchorDate) {
+    return MonthStepNavigation.startingOn(anchorDate, 12).rangeAt(index);
   }
 
-  private static LocalDate endForStart(LocalDate startDate) {
-    // Special-case Feb 29 starts: end at Feb 28 next year
-    if (startDate.getMonthValue() == 2 && startDate.getDayOfMonth() == 29) {
-      return LocalDate.of(startDate.getYear() + 1, 2, 28);
-    } else {
-      return addYears(startDate, 1).minusDays(1);
+  /**
+   * Gets the index of the 1-year range containing the given date, in the sequence of ranges
+   * anchored on anchorDate and placed by the given leap-day policy. Indexes match those of {@link
+   * #periodIndexOf(LocalDate, LocalDate)}.
+   *
+   * @param date The date to locate.
+   * @param anchorDate The start date of any one range in the sequence.
+   * @param policy Where periods start when their start day is missing from the month.
+   * @return The index of the range containing date.
+   */
+  public static long periodIndexOf(LocalDate date, LocalDate anchorDate, LeapDayPolicy policy) {
+    return AnniversaryNavigation.of(anchorDate, 12, policy).indexOf(date);
+  }
+
+  /**
+   * Gets the 1-year range with the given index, as numbered by {@link #periodIndexOf(LocalDate,
+   * LocalDate, LeapDayPolicy)}.
+   *
+   * @param index The range index.
+   * @param anchorDate The start date of any one range in the sequence.
+   * @param policy Where periods start when their start day is missing from the month.
+   * @return A new 1-year DateRange for that index.
+   */
+  public static DateRange rangeAt(long index, LocalDate anchorDate, LeapDayPolicy policy) {
+    return AnniversaryNavigation.of(anchorDate, 12, policy).rangeAt(index);
+  }
+
+  /**
+   * Gets the 1-year range the given number of years before the given one, such as the same fiscal
+   * or policy year N years ago. The result stays in range's sequence, keeping its start day and
+   * leap-day policy, and is found by index arithmetic in constant time.
+   *
+   * @param range A 1-year range built by this class.
+   * @param years The number of years to go back; negative values go forward.
+   * @return The 1-year DateRange years before range.
+   */
+  public static DateRange sameRangeYearsAgo(DateRange range, int years) {
+    if (AnniversaryNavigation.monthsPerPeriod(range) != 12) {
+      throw new IllegalArgumentException("annual range required");
     }
+    return range.shift(-(long) years);
   }
 
   private AnnualDateRange() {}
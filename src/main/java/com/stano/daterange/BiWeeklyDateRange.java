@@ -48,5 +48,34 @@ public final class BiWeeklyDateRange {
     return DateRange.of(start, end);
   }
 
+  /**
+   * Gets the index of the 14-day period containing the given date, in the sequence of periods one
+   * of which starts on anchorDate.
+   *
+   * <p>Periods are numbered consecutively, so indexes are dense and ordered and can be used as
+   * array offsets and sort keys. Period 0 is the one starting between 1970-01-01 and 1970-01-14,
+   * so every anchor of the same sequence gives the same numbering. The lookup is plain arithmetic
+   * and allocates nothing.
+   *
+   * @param date The date to locate.
+   * @param anchorDate The start date of any one range in the sequence.
+   * @return The index of the period containing date.
+   */
+  public static long periodIndexOf(LocalDate date, LocalDate anchorDate) {
+    return DayStepNavigation.biWeekly(anchorDate).indexOf(date);
+  }
+
+  /**
+   * Gets the 14-day period with the given index, as numbered by {@link #periodIndexOf(LocalDate,
+   * LocalDate)}.
+   *
+   * @param index The period index.
+   * @param anchorDate The start date of any one range in the sequence.
+   * @return A new 14-day DateRange for that period.
+   */
+  public static DateRange rangeAt(long index, LocalDate anchorDate) {
+    return DayStepNavigation.biWeekly(anchorDate).rangeAt(index);
+  }
+
   private BiWeeklyDateRange() {}
 }
@@ -4,12 +4,18 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.UnaryOperator;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * An inclusive range of dates, from a start date through an end date.
@@ -25,9 +31,7 @@ public final class DateRange implements Iterable<LocalDate>, Comparable<DateRang
   private final LocalDate startDate;
   private final LocalDate endDate;
   private final int numberOfDays; // inclusive length in days
-  private final UnaryOperator<DateRange> priorFn; // maybe null
-  private final UnaryOperator<DateRange> nextFn; // maybe null
-  private final Integer startDay; // optional: used by Monthly segments
+  private final DateRangeNavigation navigation;
 
   /**
    * Creates a new DateRange spanning the given start and end dates, using the default
@@ -37,7 +41,7 @@ public final class DateRange implements Iterable<LocalDate>, Comparable<DateRang
    * @param endDate The end date of the range; must not be before startDate.
    */
   public DateRange(LocalDate startDate, LocalDate endDate) {
-    this(startDate, endDate, null, null, null);
+    this(startDate, endDate, ShiftByLengthNavigation.INSTANCE);
   }
 
   /**
@@ -52,29 +56,12 @@ public final class DateRange implements Iterable<LocalDate>, Comparable<DateRang
     return new DateRange(startDate, endDate);
   }
 
-  static DateRange ofWithPriorNext(
-      LocalDate startDate,
-      LocalDate endDate,
-      UnaryOperator<DateRange> priorFn,
-      UnaryOperator<DateRange> nextFn) {
-    return new DateRange(startDate, endDate, priorFn, nextFn, null);
+  static DateRange ofWithNavigation(
+      LocalDate startDate, LocalDate endDate, DateRangeNavigation navigation) {
+    return new DateRange(startDate, endDate, navigation);
   }
 
-  static DateRange ofWithPriorNextStartDay(
-      LocalDate startDate,
-      LocalDate endDate,
-      UnaryOperator<DateRange> priorFn,
-      UnaryOperator<DateRange> nextFn,
-      Integer startDay) {
-    return new DateRange(startDate, endDate, priorFn, nextFn, startDay);
-  }
-
-  private DateRange(
-      LocalDate startDate,
-      LocalDate endDate,
-      UnaryOperator<DateRange> priorFn,
-      UnaryOperator<DateRange> nextFn,
-      Integer startDay) {
+  private DateRange(LocalDate startDate, LocalDate endDate, DateRangeNavigation navigation) {
     if (startDate == null || endDate == null) {
       throw new IllegalArgumentException("dates required");
     }
@@ -85,9 +72,7 @@ public final class DateRange implements Iterable<LocalDate>, Comparable<DateRang
     this.endDate = endDate;
     long numberOfDays = ChronoUnit.DAYS.between(startDate, endDate) + 1; // inclusive
     this.numberOfDays = Math.toIntExact(numberOfDays);
-    this.priorFn = priorFn;
-    this.nextFn = nextFn;
-    this.startDay = startDay;
+    this.navigation = navigation;
   }
 
   /**
@@ -108,6 +93,24 @@ public final class DateRange implements Iterable<LocalDate>, Comparable<DateRang
     return endDate;
   }
 
+  /**
+   * Gets the start date of the range as an epoch day.
+   *
+   * @return The epoch day of the start date, as returned by {@link LocalDate#toEpochDay()}.
+   */
+  public long startEpochDay() {
+    return startDate.toEpochDay();
+  }
+
+  /**
+   * Gets the end date of the range as an epoch day.
+   *
+   * @return The epoch day of the end date, as returned by {@link LocalDate#toEpochDay()}.
+   */
+  public long endEpochDay() {
+    return endDate.toEpochDay();
+  }
+
   /**
    * Gets the number of days spanned by the range, inclusive of both the start and end dates.
    *
@@ -124,12 +127,15 @@ public final class DateRange implements Iterable<LocalDate>, Comparable<DateRang
    * @return The configured start day, or empty if this range has no configured start day.
    */
   public Optional<Integer> startDay() {
-    return Optional.ofNullable(startDay);
+    return navigation.startDay();
   }
 
   /**
    * Gets every date in the range, from the start date through the end date, inclusive.
    *
+   * <p>This builds a new list holding every date; use {@link #datesView()} to avoid storing the
+   * dates of a long range.
+   *
    * @return A list of every date in the range, in chronological order.
    */
   public List<LocalDate> dates() {
@@ -142,6 +148,82 @@ public final class DateRange implements Iterable<LocalDate>, Comparable<DateRang
     return res;
   }
 
+  /**
+   * Gets an unmodifiable, random-access view of every date in the range, from the start date
+   * through the end date, inclusive.
+   *
+   * <p>Unlike {@link #dates()}, the view does not store its elements; each date is computed from
+   * the start date when it is accessed, so the view's memory use does not grow with the length of
+   * the range.
+   *
+   * @return A list view of the dates in the range, in chronological order.
+   */
+  public List<LocalDate> datesView() {
+    return new DateRangeDateList(this);
+  }
+
+  /**
+   * Gets a sequential stream of every date in the range, from the start date through the end date,
+   * inclusive.
+   *
+   * @return A stream of the dates in the range.
+   */
+  public Stream<LocalDate> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * Performs the given action on the epoch day of every date in the range, from the start date
+   * through the end date, inclusive, without creating a {@link LocalDate} per day.
+   *
+   * <p>Use {@link com.stano.datetime.DateUtils#dayOfWeekValue(long)} and {@link
+   * com.stano.datetime.DateUtils#dayOfMonth(long)} to read calendar fields from an epoch day.
+   *
+   * @param action The action to perform on each epoch day.
+   */
+  public void forEachEpochDay(LongConsumer action) {
+    long end = endEpochDay();
+    for (long day = startEpochDay(); day <= end; day++) {
+      action.accept(day);
+    }
+  }
+
+  /**
+   * Gets an iterator over the epoch day of every date in the range, from the start date through
+   * the end date, inclusive.
+   *
+   * @return A primitive iterator over the epoch days in the range.
+   */
+  public PrimitiveIterator.OfLong epochDayIterator() {
+    long end = endEpochDay();
+    return new PrimitiveIterator.OfLong() {
+      private long cur = startEpochDay();
+
+      @Override
+      public boolean hasNext() {
+        return cur <= end;
+      }
+
+      @Override
+      public long nextLong() {
+        if (cur > end) {
+          throw new NoSuchElementException();
+        }
+        return cur++;
+      }
+    };
+  }
+
+  /**
+   * Gets a stream of the epoch day of every date in the range, from the start date through the end
+   * date, inclusive.
+   *
+   * @return A stream of the epoch days in the range.
+   */
+  public LongStream epochDays() {
+    return LongStream.rangeClosed(startEpochDay(), endEpochDay());
+  }
+
   /**
    * Gets the date at the given zero-based offset from the start of the range.
    *
@@ -162,15 +244,41 @@ public final class DateRange implements Iterable<LocalDate>, Comparable<DateRang
    * @return A list of matching dates, in chronological order.
    */
   public List<LocalDate> datesForDay(DayOfWeek day) {
-    List<LocalDate> res = new ArrayList<>();
-    for (LocalDate d : this) {
-      if (d.getDayOfWeek() == day) {
-        res.add(d);
-      }
+    List<LocalDate> res = new ArrayList<>(countOf(day));
+    for (int offset = dayOfWeekOffset(day); offset < numberOfDays; offset += 7) {
+      res.add(startDate.plusDays(offset));
     }
     return res;
   }
 
+  /**
+   * Counts the dates in the range that fall on the given day of the week.
+   *
+   * @param day The day of the week to count.
+   * @return The number of dates in the range falling on day.
+   */
+  public int countOf(DayOfWeek day) {
+    int offset = dayOfWeekOffset(day);
+    return offset < numberOfDays ? (numberOfDays - offset + 6) / 7 : 0;
+  }
+
+  /**
+   * Counts the dates in the range falling on each day of the week.
+   *
+   * @return An array of 7 counts, indexed by {@link DayOfWeek#ordinal()} (Monday is index 0).
+   */
+  public int[] countByDayOfWeek() {
+    int[] counts = new int[7];
+    int fullWeeks = numberOfDays / 7;
+    int remainder = numberOfDays % 7;
+    int first = startDate.getDayOfWeek().ordinal();
+    for (int i = 0; i < 7; i++) {
+      // the i-th day after the start date is counted once more when it falls in the partial week
+      counts[(first + i) % 7] = fullWeeks + (i < remainder ? 1 : 0);
+    }
+    return counts;
+  }
+
   /**
    * Checks if a date falls within this range, inclusive of the start and end dates.
    *
@@ -217,22 +325,18 @@ public final class DateRange implements Iterable<LocalDate>, Comparable<DateRang
   }
 
   /**
-   * Finds the range, reached by repeatedly navigating {@link #prior()}/{@link #next()} from this
-   * range, that contains the given date.
+   * Finds the range, reachable by navigating {@link #prior()}/{@link #next()} from this range, that
+   * contains the given date.
+   *
+   * <p>Ranges using the default shift-by-length navigation or created by one of the {@code
+   * *DateRange} factory classes compute the containing range directly, so the cost does not depend
+   * on how far date is from this range.
    *
    * @param date The date to locate.
    * @return The range containing date.
    */
   public DateRange rangeContainingDate(LocalDate date) {
-    DateRange range = createNew(this.startDate, this.endDate);
-    while (!range.containsDate(date)) {
-      if (date.isAfter(range.endDate)) {
-        range = range.next();
-      } else {
-        range = range.prior();
-      }
-    }
-    return range;
+    return navigation.containing(this, date);
   }
 
   /**
@@ -245,25 +349,24 @@ public final class DateRange implements Iterable<LocalDate>, Comparable<DateRang
    * @return The prior DateRange.
    */
   public DateRange prior() {
-    if (priorFn != null) {
-      return priorFn.apply(this);
-    }
-    // default shift by length
-    return createNew(startDate.minusDays(numberOfDays), endDate.minusDays(numberOfDays));
+    return navigation.prior(this);
   }
 
   /**
    * Gets the range reached by navigating {@link #prior()} the given number of times.
    *
+   * <p>Ranges using the default shift-by-length navigation or created by one of the {@code
+   * *DateRange} factory classes jump directly to the resulting range, without building the ranges
+   * in between.
+   *
    * @param number The number of times to navigate to the prior range.
-   * @return The resulting DateRange.
+   * @return The resulting DateRange, or this range if number is not positive.
    */
   public DateRange priorN(int number) {
-    DateRange r = this;
-    for (int i = 0; i < number; i++) {
-      r = r.prior();
+    if (number <= 0) {
+      return this;
     }
-    return r;
+    return shift(-(long) number);
   }
 
   /**
@@ -276,65 +379,69 @@ public final class DateRange implements Iterable<LocalDate>, Comparable<DateRang
    * @return The next DateRange.
    */
   public DateRange next() {
-    if (nextFn != null) {
-      return nextFn.apply(this);
-    }
-    // default shift by length
-    return createNew(startDate.plusDays(numberOfDays), endDate.plusDays(numberOfDays));
+    return navigation.next(this);
   }
 
   /**
    * Gets the range reached by navigating {@link #next()} the given number of times.
    *
+   * <p>Ranges using the default shift-by-length navigation or created by one of the {@code
+   * *DateRange} factory classes jump directly to the resulting range, without building the ranges
+   * in between.
+   *
    * @param number The number of times to navigate to the next range.
-   * @return The resulting DateRange.
+   * @return The resulting DateRange, or this range if number is not positive.
    */
   public DateRange nextN(int number) {
-    DateRange r = this;
-    for (int i = 0; i < number; i++) {
-      r = r.next();
+    if (number <= 0) {
+      return this;
     }
-    return r;
+    return shift(number);
   }
 
   /**
    * Gets the given number of ranges immediately before this one, not including this range.
    *
+   * <p>This and the other {@code ranges*} window methods return lazy views: each range is computed
+   * from this range and its offset when it is accessed, so creating a view of any size is O(1).
+   *
    * @param number The number of prior ranges to return.
-   * @return A list of the prior ranges, in chronological order (earliest first).
+   * @return An unmodifiable list view of the prior ranges, in chronological order (earliest first).
    */
   public List<DateRange> rangesBefore(int number) {
-    return rangesBeforeImpl(number, false);
+    return new DateRangeWindowList(this, -(long) Math.max(number, 0), -1);
   }
 
   /**
    * Gets the given number of ranges immediately before this one, including this range.
    *
    * @param number The number of prior ranges to return, not counting this range.
-   * @return A list of the prior ranges followed by this range, in chronological order.
+   * @return An unmodifiable list view of the prior ranges followed by this range, in chronological
+   *     order.
    */
   public List<DateRange> rangesBeforeInclusive(int number) {
-    return rangesBeforeImpl(number, true);
+    return new DateRangeWindowList(this, -(long) Math.max(number, 0), 0);
   }
 
   /**
    * Gets the given number of ranges immediately after this one, not including this range.
    *
    * @param number The number of subsequent ranges to return.
-   * @return A list of the subsequent ranges, in chronological order.
+   * @return An unmodifiable list view of the subsequent ranges, in chronological order.
    */
   public List<DateRange> rangesAfter(int number) {
-    return rangesAfterImpl(number, false);
+    return new DateRangeWindowList(this, 1, Math.max(number, 0));
   }
 
   /**
    * Gets the given number of ranges immediately after this one, including this range.
    *
    * @param number The number of subsequent ranges to return, not counting this range.
-   * @return A list of this range followed by the subsequent ranges, in chronological order.
+   * @return An unmodifiable list view of this range followed by the subsequent ranges, in
+   *     chronological order.
    */
   public List<DateRange> rangesAfterInclusive(int number) {
-    return rangesAfterImpl(number, true);
+    return new DateRangeWindowList(this, 0, Math.max(number, 0));
   }
 
   /**
@@ -343,14 +450,10 @@ public final class DateRange implements Iterable<LocalDate>, Comparable<DateRang
    *
    * @param before The number of ranges to include before this one.
    * @param after The number of ranges to include after this one.
-   * @return A list of the ranges in the window, in chronological order.
+   * @return An unmodifiable list view of the ranges in the window, in chronological order.
    */
   public List<DateRange> rangesWindow(int before, int after) {
-    List<DateRange> res = new ArrayList<>(before + after + 1);
-    res.addAll(rangesBeforeImpl(before, true)); // includes self
-    List<DateRange> afters = rangesAfterImpl(after, false);
-    res.addAll(afters);
-    return res;
+    return new DateRangeWindowList(this, -(long) Math.max(before, 0), Math.max(after, 0));
   }
 
   /**
@@ -362,57 +465,79 @@ public final class DateRange implements Iterable<LocalDate>, Comparable<DateRang
    * @return A list of the covering ranges, in chronological order.
    */
   public List<DateRange> rangesContainingSpan(LocalDate fromDate, LocalDate toDate) {
+    List<DateRange> res = new ArrayList<>();
+    rangesCoveringIterator(fromDate, toDate).forEachRemaining(res::add);
+    return res;
+  }
+
+  /**
+   * Gets a sequential stream of the consecutive ranges, reached by navigating {@link
+   * #prior()}/{@link #next()} from this range, needed to fully cover the span from fromDate through
+   * toDate. Ranges are produced lazily as the stream is consumed.
+   *
+   * @param fromDate The start of the span to cover.
+   * @param toDate The end of the span to cover; must not be before fromDate.
+   * @return A stream of the covering ranges, in chronological order.
+   */
+  public Stream<DateRange> rangesCovering(LocalDate fromDate, LocalDate toDate) {
+    return StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(
+            rangesCoveringIterator(fromDate, toDate),
+            Spliterator.ORDERED
+                | Spliterator.SORTED
+                | Spliterator.DISTINCT
+                | Spliterator.NONNULL
+                | Spliterator.IMMUTABLE),
+        false);
+  }
+
+  /**
+   * Gets an iterator over the consecutive ranges, reached by navigating {@link #prior()}/{@link
+   * #next()} from this range, needed to fully cover the span from fromDate through toDate. Each
+   * range is computed when the iterator reaches it.
+   *
+   * @param fromDate The start of the span to cover.
+   * @param toDate The end of the span to cover; must not be before fromDate.
+   * @return An iterator over the covering ranges, in chronological order.
+   */
+  public Iterator<DateRange> rangesCoveringIterator(LocalDate fromDate, LocalDate toDate) {
     if (fromDate == null || toDate == null) {
       throw new IllegalArgumentException("dates required");
     }
     if (toDate.isBefore(fromDate)) {
       throw new IllegalArgumentException("to before from");
     }
-    List<DateRange> res = new ArrayList<>();
-    DateRange r = rangeContainingDate(fromDate);
-    res.add(r.copy());
-    while (r.endDate.isBefore(toDate)) {
-      r = r.next();
-      res.add(r.copy());
-    }
-    Collections.sort(res);
-    return res;
-  }
+    DateRange first = rangeContainingDate(fromDate);
+    return new Iterator<DateRange>() {
+      private DateRange cur = first;
 
-  private List<DateRange> rangesBeforeImpl(int number, boolean includeSelf) {
-    List<DateRange> res = new ArrayList<>(number + 1);
-    if (includeSelf) {
-      res.add(copy());
-    }
-    DateRange cur = copy();
-    for (int i = 0; i < number; i++) {
-      cur = cur.prior();
-      res.add(cur.copy());
-    }
-    // Reverse to match Rust ordering (earlier first)
-    Collections.reverse(res);
-    return res;
+      @Override
+      public boolean hasNext() {
+        return cur != null;
+      }
+
+      @Override
+      public DateRange next() {
+        if (cur == null) {
+          throw new NoSuchElementException();
+        }
+        DateRange res = cur;
+        cur = res.endDate.isBefore(toDate) ? res.next() : null;
+        return res;
+      }
+    };
   }
 
-  private List<DateRange> rangesAfterImpl(int number, boolean includeSelf) {
-    List<DateRange> res = new ArrayList<>(number + 1);
-    if (includeSelf) {
-      res.add(copy());
-    }
-    DateRange cur = copy();
-    for (int i = 0; i < number; i++) {
-      cur = cur.next();
-      res.add(cur.copy());
-    }
-    return res;
+  DateRange shift(long periods) {
+    return navigation.shift(this, periods);
   }
 
-  private DateRange createNew(LocalDate start, LocalDate end) {
-    return new DateRange(start, end, this.priorFn, this.nextFn, this.startDay);
+  DateRangeNavigation navigation() {
+    return navigation;
   }
 
-  private DateRange copy() {
-    return createNew(this.startDate, this.endDate);
+  private int dayOfWeekOffset(DayOfWeek day) {
+    return Math.floorMod(day.getValue() - startDate.getDayOfWeek().getValue(), 7);
   }
 
   /**
@@ -440,6 +565,18 @@ public final class DateRange implements Iterable<LocalDate>, Comparable<DateRang
     };
   }
 
+  /**
+   * Gets a spliterator over every date in the range, from the start date through the end date,
+   * inclusive. The spliterator is sized and splits the remaining dates at their midpoint, so
+   * parallel streams over a range divide the work evenly.
+   *
+   * @return A spliterator over the dates in the range.
+   */
+  @Override
+  public Spliterator<LocalDate> spliterator() {
+    return new DateRangeSpliterator(startDate.toEpochDay(), endDate.toEpochDay());
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
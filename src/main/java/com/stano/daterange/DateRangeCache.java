@@ -0,0 +1,211 @@
+package com.stano.daterange;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An opt-in, bounded cache of canonical period {@link DateRange}s, for code that asks for the same
+ * periods (this month, the current pay period, ...) over and over.
+ *
+ * <p>Periods are keyed by their {@link DateRangeType}, their anchor and their position in the
+ * sequence (equivalently, their start day). Anchors that describe the same sequence, such as two
+ * start dates a whole number of periods apart, share entries. Every request for a cached period
+ * returns the same immutable instance.
+ *
+ * <p>Entries are spread over independently locked segments, so concurrent readers only contend
+ * when they hit the same segment. Each segment evicts its least recently used entry once full, and
+ * the cache never holds more than its maximum size in total. Hit, miss and eviction counts are
+ * kept for sizing.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class DateRangeCache {
+  private static final int MAX_SEGMENTS = 16;
+
+  private final int maximumSize;
+  private final Segment[] segments;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates a new, empty cache holding at most the given number of periods.
+   *
+   * @param maximumSize The maximum number of cached periods; must be positive.
+   * @return A new DateRangeCache.
+   */
+  public static DateRangeCache create(int maximumSize) {
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException("maximum size must be positive");
+    }
+    return new DateRangeCache(maximumSize);
+  }
+
+  /**
+   * Gets the canonical period of the given type containing the given date, building and caching
+   * it on a miss.
+   *
+   * @param type The period type.
+   * @param date The date to locate.
+   * @param anchor Where the periods fall; ignored, and may be null, for {@link
+   *     DateRangeType#SEMI_MONTHLY}.
+   * @return The cached DateRange for the period containing date, equal to the one returned by
+   *     {@link DateRangeType#rangeContaining(LocalDate, PeriodAnchor)}.
+   */
+  public DateRange rangeContaining(DateRangeType type, LocalDate date, PeriodAnchor anchor) {
+    if (type == null || date == null) {
+      throw new IllegalArgumentException("type and date required");
+    }
+    PeriodNavigation navigation = type.navigationFor(anchor);
+    Key key = new Key(navigation, navigation.indexOf(date));
+    return segmentFor(key).getOrBuild(key);
+  }
+
+  /**
+   * Gets the maximum number of periods this cache holds.
+   *
+   * @return The maximum size.
+   */
+  public int maximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * Gets the number of periods currently cached.
+   *
+   * @return The number of cached periods.
+   */
+  public int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Gets the number of requests answered from the cache.
+   *
+   * @return The hit count.
+   */
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Gets the number of requests that had to build a new period.
+   *
+   * @return The miss count.
+   */
+  public long missCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Gets the number of periods evicted to stay within the maximum size.
+   *
+   * @return The eviction count.
+   */
+  public long evictionCount() {
+    return evictions.sum();
+  }
+
+  /**
+   * Gets the fraction of requests answered from the cache.
+   *
+   * @return The hit count divided by the request count, or 0 if there have been no requests.
+   */
+  public double hitRate() {
+    long hitCount = hits.sum();
+    long requests = hitCount + misses.sum();
+    return requests == 0 ? 0.0 : (double) hitCount / requests;
+  }
+
+  /** Removes every cached period. The statistics are kept. */
+  public void clear() {
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        segment.clear();
+      }
+    }
+  }
+
+  private Segment segmentFor(Key key) {
+    int hash = key.hashCode();
+    return segments[((hash ^ (hash >>> 16)) & 0x7FFF_FFFF) % segments.length];
+  }
+
+  private DateRangeCache(int maximumSize) {
+    this.maximumSize = maximumSize;
+    int count = Math.min(MAX_SEGMENTS, maximumSize);
+    this.segments = new Segment[count];
+    for (int i = 0; i < count; i++) {
+      // Split the maximum size exactly, so the segments never hold more than it in total.
+      segments[i] = new Segment(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+    }
+  }
+
+  private static final class Key {
+    private final PeriodNavigation navigation; // shared per type and anchor sequence
+    private final long index;
+
+    Key(PeriodNavigation navigation, long index) {
+      this.navigation = navigation;
+      this.index = index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return navigation == that.navigation && index == that.index;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(navigation) + Long.hashCode(index);
+    }
+  }
+
+  /** An access-ordered map evicting its least recently used entry once over capacity. */
+  private final class Segment extends LinkedHashMap<Key, DateRange> {
+    private static final long serialVersionUID = 1L;
+
+    private final int capacity;
+
+    Segment(int capacity) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+    }
+
+    synchronized DateRange getOrBuild(Key key) {
+      DateRange range = get(key);
+      if (range != null) {
+        hits.increment();
+        return range;
+      }
+      misses.increment();
+      range = key.navigation.rangeAt(key.index);
+      put(key, range);
+      return range;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Key, DateRange> eldest) {
+      if (size() > capacity) {
+        evictions.increment();
+        return true;
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.stano.daterange;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+/**
+ * An unmodifiable, random-access {@link java.util.List} view of the dates in a {@link DateRange}.
+ * Dates are computed from the range's start date on access, so the view takes the same small
+ * amount of memory no matter how long the range is.
+ */
+final class DateRangeDateList extends AbstractList<LocalDate> implements RandomAccess {
+  private final LocalDate startDate;
+  private final int size;
+
+  /**
+   * Creates a new view of the dates in the given range.
+   *
+   * @param range The range whose dates are viewed.
+   */
+  DateRangeDateList(DateRange range) {
+    this.startDate = range.getStartDate();
+    this.size = range.getNumberOfDays();
+  }
+
+  @Override
+  public LocalDate get(int index) {
+    Objects.checkIndex(index, size);
+    return startDate.plusDays(index);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    if (!(o instanceof LocalDate date)) {
+      return -1;
+    }
+    long index = date.toEpochDay() - startDate.toEpochDay();
+    return (index >= 0 && index < size) ? (int) index : -1;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    return indexOf(o);
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return indexOf(o) >= 0;
+  }
+
+  @Override
+  public Spliterator<LocalDate> spliterator() {
+    long start = startDate.toEpochDay();
+    return new DateRangeSpliterator(start, start + size - 1);
+  }
+}
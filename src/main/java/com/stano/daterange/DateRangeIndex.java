@@ -0,0 +1,217 @@
+package com.stano.daterange;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * An immutable index mapping possibly-overlapping {@link DateRange} keys to payloads, answering
+ * "which entries contain this date" and "which entries overlap this range" queries.
+ *
+ * <p>Entries are stored in arrays sorted by start date, and those arrays are treated as an
+ * implicit balanced binary search tree (the middle entry of each slice is the root of that slice)
+ * in which every node is augmented with the latest end date in its subtree. A query only descends
+ * into subtrees that can still hold a match, visiting O(log n) nodes per match, so it runs in
+ * O(min(n, k log n)) for k matches. The index is bulk-loaded in O(n log n) with a single primitive
+ * sort.
+ *
+ * <p>Matches are reported in order of their keys' start dates.
+ *
+ * <p>This class is immutable and thread-safe, provided the payloads are.
+ *
+ * @param <T> The payload type.
+ */
+public final class DateRangeIndex<T> {
+  private final long[] starts; // epoch days, ascending
+  private final long[] ends; // epoch days, in the same order as starts
+  private final long[] maxEnds; // latest end in the subtree rooted at each index
+  private final Object[] payloads;
+
+  /**
+   * Creates a new index over the given items, using keyFn to get each item's range.
+   *
+   * @param items The items to index; they need not be sorted.
+   * @param keyFn The function giving the range of each item.
+   * @param <T> The payload type.
+   * @return A new DateRangeIndex.
+   */
+  public static <T> DateRangeIndex<T> of(
+      Collection<? extends T> items, Function<? super T, DateRange> keyFn) {
+    Builder<T> builder = builder();
+    for (T item : items) {
+      builder.add(keyFn.apply(item), item);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates a new builder that collects entries and sorts them once when the index is built.
+   *
+   * @param <T> The payload type.
+   * @return A new Builder.
+   */
+  public static <T> Builder<T> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * Gets the number of entries in the index.
+   *
+   * @return The number of entries.
+   */
+  public int size() {
+    return starts.length;
+  }
+
+  /**
+   * Gets the payloads of every entry whose range contains the given date.
+   *
+   * @param date The date to look up.
+   * @return A new list of the matching payloads, in order of their ranges' start dates.
+   */
+  public List<T> containing(LocalDate date) {
+    List<T> res = new ArrayList<>();
+    forEachContaining(date, res::add);
+    return res;
+  }
+
+  /**
+   * Gets the payloads of every entry whose range overlaps the given range.
+   *
+   * @param range The range to look up.
+   * @return A new list of the matching payloads, in order of their ranges' start dates.
+   */
+  public List<T> overlapping(DateRange range) {
+    List<T> res = new ArrayList<>();
+    forEachOverlapping(range, res::add);
+    return res;
+  }
+
+  /**
+   * Passes the payload of every entry whose range contains the given date to visitor, without
+   * building a result list.
+   *
+   * @param date The date to look up.
+   * @param visitor The action to perform on each matching payload.
+   */
+  public void forEachContaining(LocalDate date, Consumer<? super T> visitor) {
+    long day = date.toEpochDay();
+    visit(0, starts.length, day, day, visitor);
+  }
+
+  /**
+   * Passes the payload of every entry whose range overlaps the given range to visitor, without
+   * building a result list.
+   *
+   * @param range The range to look up.
+   * @param visitor The action to perform on each matching payload.
+   */
+  public void forEachOverlapping(DateRange range, Consumer<? super T> visitor) {
+    visit(0, starts.length, range.startEpochDay(), range.endEpochDay(), visitor);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void visit(int low, int high, long from, long to, Consumer<? super T> visitor) {
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (maxEnds[mid] < from) {
+        return; // nothing in this subtree ends on or after from
+      }
+      visit(low, mid, from, to, visitor);
+      if (starts[mid] > to) {
+        return; // this entry and everything after it starts too late
+      }
+      if (ends[mid] >= from) {
+        visitor.accept((T) payloads[mid]);
+      }
+      low = mid + 1;
+    }
+  }
+
+  private long buildMaxEnds(int low, int high) {
+    if (low >= high) {
+      return Long.MIN_VALUE;
+    }
+    int mid = (low + high) >>> 1;
+    long max = Math.max(ends[mid], Math.max(buildMaxEnds(low, mid), buildMaxEnds(mid + 1, high)));
+    maxEnds[mid] = max;
+    return max;
+  }
+
+  private DateRangeIndex(long[] starts, long[] ends, Object[] payloads) {
+    this.starts = starts;
+    this.ends = ends;
+    this.payloads = payloads;
+    this.maxEnds = new long[starts.length];
+    buildMaxEnds(0, starts.length);
+  }
+
+  /**
+   * Collects entries for a {@link DateRangeIndex}. Entries may be added in any order; they are
+   * sorted once, when {@link #build()} is called.
+   *
+   * <p>This class is not thread-safe.
+   *
+   * @param <T> The payload type.
+   */
+  public static final class Builder<T> {
+    private long[] starts = new long[16];
+    private long[] ends = new long[16];
+    private Object[] payloads = new Object[16];
+    private int size;
+
+    /**
+     * Adds an entry to the index being built.
+     *
+     * @param range The entry's range.
+     * @param payload The entry's payload.
+     * @return This builder.
+     */
+    public Builder<T> add(DateRange range, T payload) {
+      if (range == null) {
+        throw new IllegalArgumentException("range required");
+      }
+      if (size == starts.length) {
+        int capacity = size * 2;
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        payloads = Arrays.copyOf(payloads, capacity);
+      }
+      starts[size] = range.startEpochDay();
+      ends[size] = range.endEpochDay();
+      payloads[size] = payload;
+      size++;
+      return this;
+    }
+
+    /**
+     * Builds the index, sorting the collected entries by start date.
+     *
+     * @return A new DateRangeIndex.
+     */
+    public DateRangeIndex<T> build() {
+      // Sort (start, position) pairs packed into longs, so one primitive sort orders the entries.
+      long[] order = new long[size];
+      for (int i = 0; i < size; i++) {
+        order[i] = ((long) Math.toIntExact(starts[i]) << 32) | i;
+      }
+      Arrays.sort(order);
+      long[] sortedStarts = new long[size];
+      long[] sortedEnds = new long[size];
+      Object[] sortedPayloads = new Object[size];
+      for (int i = 0; i < size; i++) {
+        int from = (int) order[i]; // low 32 bits hold the original position
+        sortedStarts[i] = starts[from];
+        sortedEnds[i] = ends[from];
+        sortedPayloads[i] = payloads[from];
+      }
+      return new DateRangeIndex<>(sortedStarts, sortedEnds, sortedPayloads);
+    }
+
+    private Builder() {}
+  }
+}
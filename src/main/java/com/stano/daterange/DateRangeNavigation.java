@@ -0,0 +1,83 @@
+package com.stano.daterange;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * The rule a {@link DateRange} uses to navigate to adjacent ranges via {@link DateRange#prior()}
+ * and {@link DateRange#next()}, and to locate the range containing a given date.
+ *
+ * <p>Implementations must be immutable, since a single instance is shared by every range in a
+ * sequence.
+ */
+interface DateRangeNavigation {
+  /**
+   * Gets the range immediately before the given range.
+   *
+   * @param range The range to navigate from.
+   * @return The prior DateRange.
+   */
+  DateRange prior(DateRange range);
+
+  /**
+   * Gets the range immediately after the given range.
+   *
+   * @param range The range to navigate from.
+   * @return The next DateRange.
+   */
+  DateRange next(DateRange range);
+
+  /**
+   * Gets the range the given number of periods away from the given range: later ranges for a
+   * positive number of periods, earlier ranges for a negative number.
+   *
+   * <p>The default implementation navigates one range at a time. Built-in rules override it to jump
+   * directly to the target range.
+   *
+   * @param range The range to navigate from.
+   * @param periods The number of periods to move.
+   * @return The resulting DateRange.
+   */
+  default DateRange shift(DateRange range, long periods) {
+    DateRange cur = range;
+    for (long i = 0; i < periods; i++) {
+      cur = next(cur);
+    }
+    for (long i = 0; i > periods; i--) {
+      cur = prior(cur);
+    }
+    return cur;
+  }
+
+  /**
+   * Finds the range, reachable from the given range by this navigation rule, that contains the
+   * given date.
+   *
+   * <p>The default implementation repeatedly navigates one range at a time, so its cost grows with
+   * the distance between range and date. Built-in rules override it with a direct calculation.
+   *
+   * @param range The range to start from.
+   * @param date The date to locate.
+   * @return The range containing date.
+   */
+  default DateRange containing(DateRange range, LocalDate date) {
+    DateRange cur = range;
+    while (!cur.containsDate(date)) {
+      if (date.isAfter(cur.getEndDate())) {
+        cur = next(cur);
+      } else {
+        cur = prior(cur);
+      }
+    }
+    return cur;
+  }
+
+  /**
+   * Gets the configured start day of month for ranges navigated by this rule, if it has one.
+   *
+   * @return The configured start day, or empty if this rule has no configured start day.
+   */
+  default Optional<Integer> startDay() {
+    return Optional.empty();
+  }
+}
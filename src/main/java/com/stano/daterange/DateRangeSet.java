@@ -0,0 +1,282 @@
+package com.stano.daterange;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+/**
+ * An immutable set of dates, held as a sorted list of disjoint {@link DateRange}s.
+ *
+ * <p>Ranges added to the set are coalesced: ranges that overlap or are adjacent (one ends the day
+ * before the other starts) are merged into a single range. Because the resulting ranges are sorted
+ * and disjoint, every query is a binary search over their start and end epoch days and runs in
+ * O(log n).
+ *
+ * <p>Ranges returned by this set use the default shift-by-length navigation.
+ *
+ * <p>This class is immutable and thread-safe.
+ */
+public final class DateRangeSet implements Iterable<DateRange> {
+  private static final DateRangeSet EMPTY = new DateRangeSet(new long[0], new long[0]);
+
+  private final long[] starts; // epoch days, ascending
+  private final long[] ends; // epoch days, ascending; ends[i] + 1 < starts[i + 1]
+
+  /**
+   * Creates a new set holding the union of the given ranges.
+   *
+   * @param ranges The ranges to include.
+   * @return A new DateRangeSet.
+   */
+  public static DateRangeSet of(Collection<DateRange> ranges) {
+    return builder().addAll(ranges).build();
+  }
+
+  /**
+   * Gets an empty set.
+   *
+   * @return The empty DateRangeSet.
+   */
+  public static DateRangeSet empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates a new builder that collects ranges and sorts them once when the set is built.
+   *
+   * @return A new Builder.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Gets the number of disjoint ranges in the set, after coalescing.
+   *
+   * @return The number of ranges.
+   */
+  public int size() {
+    return starts.length;
+  }
+
+  /**
+   * Checks if the set holds no dates.
+   *
+   * @return true if the set is empty.
+   */
+  public boolean isEmpty() {
+    return starts.length == 0;
+  }
+
+  /**
+   * Checks if a date falls within any range in the set.
+   *
+   * @param date The date to check.
+   * @return true if the set contains date.
+   */
+  public boolean containsDate(LocalDate date) {
+    long day = date.toEpochDay();
+    int i = lastStartingOnOrBefore(day);
+    return i >= 0 && ends[i] >= day;
+  }
+
+  /**
+   * Checks if every date of a range falls within the set.
+   *
+   * @param range The DateRange to check.
+   * @return true if the set contains every date from range's start date through its end date.
+   */
+  public boolean containsRange(DateRange range) {
+    int i = lastStartingOnOrBefore(range.startEpochDay());
+    return i >= 0 && ends[i] >= range.endEpochDay();
+  }
+
+  /**
+   * Checks if a range shares at least one day with the set.
+   *
+   * @param range The DateRange to check.
+   * @return true if range overlaps any range in the set.
+   */
+  public boolean overlapsAny(DateRange range) {
+    int i = lastStartingOnOrBefore(range.endEpochDay());
+    return i >= 0 && ends[i] >= range.startEpochDay();
+  }
+
+  /**
+   * Finds the earliest range in the set that overlaps the given range.
+   *
+   * @param range The DateRange to check.
+   * @return The earliest overlapping (coalesced) range, or empty if range overlaps none.
+   */
+  public Optional<DateRange> firstOverlapping(DateRange range) {
+    int i = firstEndingOnOrAfter(range.startEpochDay());
+    if (i < starts.length && starts[i] <= range.endEpochDay()) {
+      return Optional.of(rangeAt(i));
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Gets the disjoint ranges in the set, in chronological order.
+   *
+   * @return An unmodifiable list view of the ranges.
+   */
+  public List<DateRange> ranges() {
+    return new RangeList();
+  }
+
+  /**
+   * Gets an iterator over the disjoint ranges in the set, in chronological order.
+   *
+   * @return An iterator over the ranges.
+   */
+  @Override
+  public Iterator<DateRange> iterator() {
+    return ranges().iterator();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof DateRangeSet)) {
+      return false;
+    }
+    DateRangeSet that = (DateRangeSet) o;
+    return Arrays.equals(starts, that.starts) && Arrays.equals(ends, that.ends);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(starts) + Arrays.hashCode(ends);
+  }
+
+  private DateRange rangeAt(int index) {
+    return DateRange.of(LocalDate.ofEpochDay(starts[index]), LocalDate.ofEpochDay(ends[index]));
+  }
+
+  private int lastStartingOnOrBefore(long day) {
+    int low = 0;
+    int high = starts.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (starts[mid] <= day) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low - 1;
+  }
+
+  private int firstEndingOnOrAfter(long day) {
+    int low = 0;
+    int high = ends.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (ends[mid] < day) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private DateRangeSet(long[] starts, long[] ends) {
+    this.starts = starts;
+    this.ends = ends;
+  }
+
+  private final class RangeList extends AbstractList<DateRange> implements RandomAccess {
+    @Override
+    public DateRange get(int index) {
+      return rangeAt(index);
+    }
+
+    @Override
+    public int size() {
+      return starts.length;
+    }
+  }
+
+  /**
+   * Collects ranges for a {@link DateRangeSet}. Ranges may be added in any order; they are sorted
+   * and coalesced once, when {@link #build()} is called.
+   *
+   * <p>This class is not thread-safe.
+   */
+  public static final class Builder {
+    private long[] packed = new long[16];
+    private int size;
+
+    /**
+     * Adds a range to the set being built.
+     *
+     * @param range The range to add.
+     * @return This builder.
+     */
+    public Builder add(DateRange range) {
+      if (range == null) {
+        throw new IllegalArgumentException("range required");
+      }
+      if (size == packed.length) {
+        packed = Arrays.copyOf(packed, size * 2);
+      }
+      packed[size++] = PackedDateRangeArray.pack(range);
+      return this;
+    }
+
+    /**
+     * Adds every range in the given collection to the set being built.
+     *
+     * @param ranges The ranges to add.
+     * @return This builder.
+     */
+    public Builder addAll(Collection<DateRange> ranges) {
+      if (size + ranges.size() > packed.length) {
+        packed = Arrays.copyOf(packed, Math.max(size + ranges.size(), size * 2));
+      }
+      for (DateRange range : ranges) {
+        add(range);
+      }
+      return this;
+    }
+
+    /**
+     * Builds the set, sorting the collected ranges once and merging overlapping or adjacent ones.
+     *
+     * @return A new DateRangeSet.
+     */
+    public DateRangeSet build() {
+      if (size == 0) {
+        return EMPTY;
+      }
+      long[] sorted = Arrays.copyOf(packed, size);
+      Arrays.sort(sorted); // packed values order by start date
+      long[] starts = new long[size];
+      long[] ends = new long[size];
+      int count = 0;
+      for (long value : sorted) {
+        long start = PackedDateRangeArray.startEpochDay(value);
+        long end = PackedDateRangeArray.endEpochDay(value);
+        if (count > 0 && start <= ends[count - 1] + 1) {
+          ends[count - 1] = Math.max(ends[count - 1], end);
+        } else {
+          starts[count] = start;
+          ends[count] = end;
+          count++;
+        }
+      }
+      return new DateRangeSet(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+    }
+
+    private Builder() {}
+  }
+}
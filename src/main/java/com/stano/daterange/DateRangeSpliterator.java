@@ -0,0 +1,74 @@
+package com.stano.daterange;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over a span of consecutive dates, tracked as epoch days so that its size is
+ * always known and splitting is a matter of halving the remaining span.
+ */
+final class DateRangeSpliterator implements Spliterator<LocalDate> {
+  private static final int CHARACTERISTICS =
+      ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT | SORTED;
+
+  private long nextEpochDay;
+  private final long endEpochDay; // inclusive
+
+  /**
+   * Creates a new spliterator over the dates from startEpochDay through endEpochDay, inclusive.
+   *
+   * @param startEpochDay The epoch day of the first date.
+   * @param endEpochDay The epoch day of the last date.
+   */
+  DateRangeSpliterator(long startEpochDay, long endEpochDay) {
+    this.nextEpochDay = startEpochDay;
+    this.endEpochDay = endEpochDay;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super LocalDate> action) {
+    if (nextEpochDay > endEpochDay) {
+      return false;
+    }
+    action.accept(LocalDate.ofEpochDay(nextEpochDay++));
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super LocalDate> action) {
+    long end = endEpochDay;
+    for (long day = nextEpochDay; day <= end; day++) {
+      action.accept(LocalDate.ofEpochDay(day));
+    }
+    nextEpochDay = end + 1;
+  }
+
+  @Override
+  public Spliterator<LocalDate> trySplit() {
+    long remaining = endEpochDay - nextEpochDay + 1;
+    if (remaining < 2) {
+      return null;
+    }
+    long mid = nextEpochDay + remaining / 2;
+    Spliterator<LocalDate> prefix = new DateRangeSpliterator(nextEpochDay, mid - 1);
+    nextEpochDay = mid;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return Math.max(0, endEpochDay - nextEpochDay + 1);
+  }
+
+  @Override
+  public int characteristics() {
+    return CHARACTERISTICS;
+  }
+
+  @Override
+  public Comparator<? super LocalDate> getComparator() {
+    return null; // natural ordering
+  }
+}
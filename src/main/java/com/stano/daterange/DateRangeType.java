@@ -1,21 +1,73 @@
 package com.stano.daterange;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * Identifies a recurring calendar period type used by {@link DateRange} and its factory helper
  * classes, along with how many such periods occur in a year.
+ *
+ * <p>Each type also builds its own periods: given a {@link PeriodAnchor} fixing where the periods
+ * fall, {@link #rangeContaining(LocalDate, PeriodAnchor)} and {@link #sequence(LocalDate,
+ * LocalDate, PeriodAnchor)} create ranges that navigate like those from the matching factory
+ * class, so configuration-driven code needs no per-type dispatch of its own.
  */
 public enum DateRangeType {
   /** A 7-day recurring period; 52 periods per year. */
-  WEEKLY(52),
+  WEEKLY(52) {
+    @Override
+    PeriodNavigation navigation(LocalDate anchorDate) {
+      return DayStepNavigation.weekly(anchorDate.getDayOfWeek().minus(1));
+    }
+  },
 
   /** A 14-day recurring period; 26 periods per year. */
-  BI_WEEKLY(26),
+  BI_WEEKLY(26) {
+    @Override
+    PeriodNavigation navigation(LocalDate anchorDate) {
+      return DayStepNavigation.biWeekly(anchorDate);
+    }
+  },
 
   /** A twice-monthly recurring period (1st-15th and 16th-end of month); 24 periods per year. */
-  SEMI_MONTHLY(24),
+  SEMI_MONTHLY(24) {
+    @Override
+    PeriodNavigation navigation(LocalDate anchorDate) {
+      return SemiMonthlyNavigation.INSTANCE;
+    }
+  },
 
   /** A calendar-month recurring period; 12 periods per year. */
-  MONTHLY(12);
+  MONTHLY(12) {
+    @Override
+    PeriodNavigation navigation(LocalDate anchorDate) {
+      return MonthStepNavigation.monthly(anchorDate.getDayOfMonth());
+    }
+  },
+
+  /** A 3-calendar-month recurring period; 4 periods per year. */
+  QUARTERLY(4) {
+    @Override
+    PeriodNavigation navigation(LocalDate anchorDate) {
+      return MonthStepNavigation.startingOn(anchorDate, 3);
+    }
+  },
+
+  /** A 6-calendar-month recurring period; 2 periods per year. */
+  SEMI_ANNUAL(2) {
+    @Override
+    PeriodNavigation navigation(LocalDate anchorDate) {
+      return MonthStepNavigation.startingOn(anchorDate, 6);
+    }
+  },
+
+  /** A 12-calendar-month recurring period; 1 period per year. */
+  ANNUAL(1) {
+    @Override
+    PeriodNavigation navigation(LocalDate anchorDate) {
+      return MonthStepNavigation.startingOn(anchorDate, 12);
+    }
+  };
 
   /**
    * Gets the number of periods of this type that occur in a year.
@@ -35,6 +87,62 @@ public enum DateRangeType {
     return this == WEEKLY || this == BI_WEEKLY;
   }
 
+  /**
+   * Creates the period of this type containing the given date.
+   *
+   * @param date The date to locate.
+   * @param anchor Where the periods fall; ignored, and may be null, for {@link #SEMI_MONTHLY}.
+   * @return A new DateRange for the period containing date, navigating between periods of this
+   *     type.
+   */
+  public DateRange rangeContaining(LocalDate date, PeriodAnchor anchor) {
+    if (date == null) {
+      throw new IllegalArgumentException("date required");
+    }
+    PeriodNavigation navigation = navigationFor(anchor);
+    return navigation.rangeAt(navigation.indexOf(date));
+  }
+
+  /**
+   * Gets the consecutive periods of this type covering the span from fromDate through toDate.
+   *
+   * @param fromDate The start of the span to cover.
+   * @param toDate The end of the span to cover; must not be before fromDate.
+   * @param anchor Where the periods fall; ignored, and may be null, for {@link #SEMI_MONTHLY}.
+   * @return An unmodifiable list view of the covering periods, in chronological order; each period
+   *     is computed when it is accessed.
+   */
+  public List<DateRange> sequence(LocalDate fromDate, LocalDate toDate, PeriodAnchor anchor) {
+    if (fromDate == null || toDate == null) {
+      throw new IllegalArgumentException("dates required");
+    }
+    if (toDate.isBefore(fromDate)) {
+      throw new IllegalArgumentException("to before from");
+    }
+    PeriodNavigation navigation = navigationFor(anchor);
+    long first = navigation.indexOf(fromDate);
+    long last = navigation.indexOf(toDate);
+    return new DateRangeWindowList(navigation.rangeAt(first), 0, last - first);
+  }
+
+  /**
+   * Gets the navigation rule for periods of this type, one of which starts on anchorDate.
+   *
+   * @param anchorDate The start date of any one period; unused by {@link #SEMI_MONTHLY}.
+   * @return The shared navigation rule.
+   */
+  abstract PeriodNavigation navigation(LocalDate anchorDate);
+
+  PeriodNavigation navigationFor(PeriodAnchor anchor) {
+    if (anchor == null) {
+      if (this != SEMI_MONTHLY) {
+        throw new IllegalArgumentException("anchor required");
+      }
+      return navigation(null);
+    }
+    return navigation(anchor.getStartDate());
+  }
+
   DateRangeType(int periodsPerYear) {
     this.periodsPerYear = periodsPerYear;
   }
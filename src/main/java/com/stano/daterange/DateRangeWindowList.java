@@ -0,0 +1,41 @@
+package com.stano.daterange;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An unmodifiable, random-access {@link java.util.List} view of consecutive ranges around a seed
+ * {@link DateRange}. Each element is computed on access by shifting the seed by its offset, so
+ * creating the view is O(1) no matter how many ranges it spans.
+ */
+final class DateRangeWindowList extends AbstractList<DateRange> implements RandomAccess {
+  private final DateRange seed;
+  private final long firstOffset; // offset from seed of element 0, in periods
+  private final int size;
+
+  /**
+   * Creates a new view of the ranges from firstOffset through lastOffset periods away from seed.
+   *
+   * @param seed The range offsets are measured from.
+   * @param firstOffset The offset of the first range in the view.
+   * @param lastOffset The offset of the last range in the view; if less than firstOffset, the view
+   *     is empty.
+   */
+  DateRangeWindowList(DateRange seed, long firstOffset, long lastOffset) {
+    this.seed = seed;
+    this.firstOffset = firstOffset;
+    this.size = Math.toIntExact(Math.max(0, lastOffset - firstOffset + 1));
+  }
+
+  @Override
+  public DateRange get(int index) {
+    Objects.checkIndex(index, size);
+    return seed.shift(firstOffset + index);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+}
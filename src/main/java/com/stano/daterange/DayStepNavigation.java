@@ -0,0 +1,77 @@
+package com.stano.daterange;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * A {@link PeriodNavigation} for periods of a fixed number of days, such as weeks and two-week
+ * pay periods.
+ *
+ * <p>Periods are numbered by floorDiv(epochDay - dayOffset, days), where dayOffset is the epoch
+ * day, from 0 to days - 1, on which one of the periods starts. Any two anchors of the same
+ * sequence therefore number its periods identically.
+ */
+final class DayStepNavigation extends PeriodNavigation {
+  private static final DayStepNavigation[] WEEKLY = new DayStepNavigation[7];
+  private static final DayStepNavigation[] BI_WEEKLY = new DayStepNavigation[14];
+
+  static {
+    for (int i = 0; i < 7; i++) {
+      WEEKLY[i] = new DayStepNavigation(7, i);
+    }
+    for (int i = 0; i < 14; i++) {
+      BI_WEEKLY[i] = new DayStepNavigation(14, i);
+    }
+  }
+
+  private final int days; // days per period
+  private final int dayOffset; // epoch day of a period start, modulo days
+
+  /**
+   * Gets the navigation rule for 7-day periods ending on the given day of the week.
+   *
+   * @param endDay The day of the week each period ends on.
+   * @return The navigation rule.
+   */
+  static DayStepNavigation weekly(DayOfWeek endDay) {
+    // 1970-01-01 (epoch day 0) is a Thursday.
+    return WEEKLY[Math.floorMod(endDay.getValue() + 1 - DayOfWeek.THURSDAY.getValue(), 7)];
+  }
+
+  /**
+   * Gets the navigation rule for 14-day periods, one of which starts on the given date.
+   *
+   * @param anchorDate The start date of any one period in the sequence.
+   * @return The navigation rule.
+   */
+  static DayStepNavigation biWeekly(LocalDate anchorDate) {
+    return BI_WEEKLY[Math.floorMod(anchorDate.toEpochDay(), 14)];
+  }
+
+  @Override
+  long indexOf(LocalDate date) {
+    return Math.floorDiv(date.toEpochDay() - dayOffset, days);
+  }
+
+  @Override
+  LocalDate startOf(long index) {
+    return LocalDate.ofEpochDay(index * days + dayOffset);
+  }
+
+  @Override
+  long startEpochDayOf(long index) {
+    return index * days + dayOffset;
+  }
+
+  @Override
+  DateRange rangeAt(long index) {
+    long start = index * days + dayOffset;
+    return DateRange.ofWithNavigation(
+        LocalDate.ofEpochDay(start), LocalDate.ofEpochDay(start + days - 1), this);
+  }
+
+  private DayStepNavigation(int days, int dayOffset) {
+    this.days = days;
+    this.dayOffset = dayOffset;
+  }
+}
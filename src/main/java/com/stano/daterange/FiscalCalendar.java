@@ -0,0 +1,287 @@
+package com.stano.daterange;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A retail (52/53-week) fiscal calendar, in which every fiscal year is a whole number of weeks
+ * ending on a fixed day of the week near the end of a fixed month, and is split into four quarters
+ * of three periods laid out in a 4-4-5, 4-5-4 or 5-4-4 week pattern.
+ *
+ * <p>A fiscal year is numbered by the calendar year it ends in. Years with 53 weeks add the extra
+ * week to their last period. The ranges this calendar returns navigate {@link DateRange#prior()}
+ * and {@link DateRange#next()} between consecutive fiscal weeks, periods, quarters or years.
+ *
+ * <p>Each fiscal year's period boundaries are computed once and kept in a small table of epoch
+ * days, so finding the week, period, quarter or year containing a date is a direct index into that
+ * table.
+ *
+ * <p>This class is immutable and thread-safe.
+ */
+public final class FiscalCalendar {
+  private static final int MAX_TABLES = 256; // fiscal years whose tables are kept at once
+
+  /** The number of weeks in each of a quarter's three periods. */
+  public enum Pattern {
+    /** Periods of 4, 4 and 5 weeks. */
+    FOUR_FOUR_FIVE(4, 4, 5),
+
+    /** Periods of 4, 5 and 4 weeks. */
+    FOUR_FIVE_FOUR(4, 5, 4),
+
+    /** Periods of 5, 4 and 4 weeks. */
+    FIVE_FOUR_FOUR(5, 4, 4);
+
+    private final int[] weeks;
+
+    Pattern(int... weeks) {
+      this.weeks = weeks;
+    }
+  }
+
+  /** How the last day of a fiscal year is chosen within its year-end month. */
+  public enum YearEnd {
+    /** The year ends on the last occurrence of the year-end day in the year-end month. */
+    LAST_OF_MONTH,
+
+    /**
+     * The year ends on the occurrence of the year-end day nearest the last day of the year-end
+     * month, which may fall in the first days of the following month.
+     */
+    NEAREST_END_OF_MONTH
+  }
+
+  private final Pattern pattern;
+  private final Month yearEndMonth;
+  private final DayOfWeek yearEndDay;
+  private final YearEnd yearEnd;
+  private final int[] weekToPeriod = new int[53]; // period (0-11) of each week of the year
+  private final Navigation periodNavigation = new Navigation(1);
+  private final Navigation quarterNavigation = new Navigation(3);
+  private final Navigation yearNavigation = new Navigation(12);
+  private final Map<Integer, int[]> tables =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, int[]> eldest) {
+          return size() > MAX_TABLES;
+        }
+      };
+
+  /**
+   * Creates a new fiscal calendar.
+   *
+   * @param pattern The week pattern of each quarter's periods.
+   * @param yearEndMonth The month in or near whose end each fiscal year ends.
+   * @param yearEndDay The day of the week each fiscal year (and so each fiscal week) ends on.
+   * @param yearEnd How the last day of each fiscal year is chosen.
+   * @return A new FiscalCalendar.
+   */
+  public static FiscalCalendar of(
+      Pattern pattern, Month yearEndMonth, DayOfWeek yearEndDay, YearEnd yearEnd) {
+    if (pattern == null || yearEndMonth == null || yearEndDay == null || yearEnd == null) {
+      throw new IllegalArgumentException("calendar settings required");
+    }
+    return new FiscalCalendar(pattern, yearEndMonth, yearEndDay, yearEnd);
+  }
+
+  /**
+   * Gets the last day of the given fiscal year.
+   *
+   * @param fiscalYear The fiscal year, numbered by the calendar year it ends in.
+   * @return The last day of fiscalYear.
+   */
+  public LocalDate yearEndOf(int fiscalYear) {
+    LocalDate monthEnd = YearMonth.of(fiscalYear, yearEndMonth).atEndOfMonth();
+    LocalDate last = monthEnd.with(TemporalAdjusters.previousOrSame(yearEndDay));
+    if (yearEnd == YearEnd.NEAREST_END_OF_MONTH && monthEnd.toEpochDay() - last.toEpochDay() > 3) {
+      return last.plusWeeks(1);
+    }
+    return last;
+  }
+
+  /**
+   * Gets the number of weeks in the given fiscal year.
+   *
+   * @param fiscalYear The fiscal year.
+   * @return 52 or 53.
+   */
+  public int weeksInYear(int fiscalYear) {
+    int[] table = tableFor(fiscalYear);
+    return (table[12] - table[0]) / 7;
+  }
+
+  /**
+   * Gets the fiscal year containing the given date.
+   *
+   * @param date The date to locate.
+   * @return The fiscal year, numbered by the calendar year it ends in.
+   */
+  public int fiscalYearNumberOf(LocalDate date) {
+    long day = date.toEpochDay();
+    int year = date.getYear();
+    if (day < tableFor(year)[0]) {
+      return year - 1;
+    }
+    if (day >= tableFor(year)[12]) {
+      return year + 1;
+    }
+    return year;
+  }
+
+  /**
+   * Gets the number, from 1 to 12, of the fiscal period containing the given date.
+   *
+   * @param date The date to locate.
+   * @return The period number within its fiscal year.
+   */
+  public int periodNumberOf(LocalDate date) {
+    return periodInYear(date.toEpochDay(), fiscalYearNumberOf(date)) + 1;
+  }
+
+  /**
+   * Gets the number, from 1 to 4, of the fiscal quarter containing the given date.
+   *
+   * @param date The date to locate.
+   * @return The quarter number within its fiscal year.
+   */
+  public int quarterNumberOf(LocalDate date) {
+    return periodInYear(date.toEpochDay(), fiscalYearNumberOf(date)) / 3 + 1;
+  }
+
+  /**
+   * Gets the number, from 1 to 53, of the fiscal week containing the given date.
+   *
+   * @param date The date to locate.
+   * @return The week number within its fiscal year.
+   */
+  public int weekNumberOf(LocalDate date) {
+    int[] table = tableFor(fiscalYearNumberOf(date));
+    return (int) (date.toEpochDay() - table[0]) / 7 + 1;
+  }
+
+  /**
+   * Gets the given fiscal year as a range.
+   *
+   * @param fiscalYear The fiscal year.
+   * @return A new DateRange covering fiscalYear, navigating between fiscal years.
+   */
+  public DateRange fiscalYear(int fiscalYear) {
+    return yearNavigation.rangeAt(fiscalYear);
+  }
+
+  /**
+   * Gets the fiscal year containing the given date.
+   *
+   * @param date The date to locate.
+   * @return A new DateRange covering the fiscal year, navigating between fiscal years.
+   */
+  public DateRange fiscalYearOf(LocalDate date) {
+    return fiscalYear(fiscalYearNumberOf(date));
+  }
+
+  /**
+   * Gets the fiscal quarter containing the given date.
+   *
+   * @param date The date to locate.
+   * @return A new DateRange covering the quarter, navigating between fiscal quarters.
+   */
+  public DateRange fiscalQuarterOf(LocalDate date) {
+    return quarterNavigation.rangeAt(quarterNavigation.indexOf(date));
+  }
+
+  /**
+   * Gets the fiscal period containing the given date.
+   *
+   * @param date The date to locate.
+   * @return A new DateRange covering the period, navigating between fiscal periods.
+   */
+  public DateRange fiscalPeriodOf(LocalDate date) {
+    return periodNavigation.rangeAt(periodNavigation.indexOf(date));
+  }
+
+  /**
+   * Gets the fiscal week containing the given date. Fiscal weeks always end on the year-end day.
+   *
+   * @param date The date to locate.
+   * @return A new 7-day DateRange covering the week, navigating between weeks.
+   */
+  public DateRange fiscalWeekOf(LocalDate date) {
+    return WeeklyDateRange.rangeAt(WeeklyDateRange.periodIndexOf(date, yearEndDay), yearEndDay);
+  }
+
+  private int periodInYear(long epochDay, int fiscalYear) {
+    return weekToPeriod[(int) (epochDay - tableFor(fiscalYear)[0]) / 7];
+  }
+
+  /**
+   * Gets the boundary table of a fiscal year: the epoch days on which each of its 12 periods
+   * start, followed by the first day of the next fiscal year.
+   */
+  private int[] tableFor(int fiscalYear) {
+    synchronized (tables) {
+      int[] table = tables.get(fiscalYear);
+      if (table == null) {
+        table = buildTable(fiscalYear);
+        tables.put(fiscalYear, table);
+      }
+      return table;
+    }
+  }
+
+  private int[] buildTable(int fiscalYear) {
+    int[] table = new int[13];
+    int start = Math.toIntExact(yearEndOf(fiscalYear - 1).toEpochDay() + 1);
+    for (int period = 0; period < 12; period++) {
+      table[period] = start;
+      start += pattern.weeks[period % 3] * 7;
+    }
+    table[12] = Math.toIntExact(yearEndOf(fiscalYear).toEpochDay() + 1); // absorbs a 53rd week
+    return table;
+  }
+
+  private FiscalCalendar(
+      Pattern pattern, Month yearEndMonth, DayOfWeek yearEndDay, YearEnd yearEnd) {
+    this.pattern = pattern;
+    this.yearEndMonth = yearEndMonth;
+    this.yearEndDay = yearEndDay;
+    this.yearEnd = yearEnd;
+    int week = 0;
+    for (int period = 0; period < 12; period++) {
+      for (int i = 0; i < pattern.weeks[period % 3]; i++) {
+        weekToPeriod[week++] = period;
+      }
+    }
+    weekToPeriod[52] = 11; // a 53rd week belongs to the last period
+  }
+
+  /**
+   * Navigates between fiscal ranges of a fixed number of periods (1 for periods, 3 for quarters,
+   * 12 for years), numbered fiscalYear * (12 / periods) + the range's position in its year.
+   */
+  private final class Navigation extends PeriodNavigation {
+    private final int periods;
+    private final int perYear;
+
+    Navigation(int periods) {
+      this.periods = periods;
+      this.perYear = 12 / periods;
+    }
+
+    @Override
+    long indexOf(LocalDate date) {
+      int fiscalYear = fiscalYearNumberOf(date);
+      return (long) fiscalYear * perYear + periodInYear(date.toEpochDay(), fiscalYear) / periods;
+    }
+
+    @Override
+    LocalDate startOf(long index) {
+      int fiscalYear = Math.toIntExact(Math.floorDiv(index, perYear));
+      return LocalDate.ofEpochDay(tableFor(fiscalYear)[Math.floorMod(index, perYear) * periods]);
+    }
+  }
+}
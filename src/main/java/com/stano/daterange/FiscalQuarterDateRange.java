@@ -0,0 +1,97 @@
+package com.stano.daterange;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+
+/**
+ * Static factory for building fiscal-quarter {@link DateRange}s, for fiscal years of 12 calendar
+ * months starting on the 1st of a given month. The ranges navigate {@link DateRange#prior()} and
+ * {@link DateRange#next()} between consecutive fiscal quarters.
+ *
+ * <p>A fiscal year is numbered by the calendar year it ends in, so with a July start, July 2026
+ * through June 2027 is fiscal 2027 and January through March 2027 is its third quarter. With a
+ * January start, fiscal years match calendar years. Every lookup is arithmetic on the date's month.
+ *
+ * <p>This class is not instantiable.
+ */
+public final class FiscalQuarterDateRange {
+  /**
+   * Creates the fiscal quarter containing the given date.
+   *
+   * @param date The date to locate.
+   * @param fiscalYearStart The month each fiscal year starts in.
+   * @return A new 3-month DateRange for the fiscal quarter containing date.
+   */
+  public static DateRange containing(LocalDate date, Month fiscalYearStart) {
+    MonthStepNavigation navigation = MonthStepNavigation.quarters(fiscalYearStart);
+    return navigation.rangeAt(navigation.indexOf(date));
+  }
+
+  /**
+   * Creates the given quarter of the given fiscal year.
+   *
+   * @param fiscalYear The fiscal year, numbered by the calendar year it ends in.
+   * @param quarter The quarter number, from 1 to 4.
+   * @param fiscalYearStart The month each fiscal year starts in.
+   * @return A new 3-month DateRange for that fiscal quarter.
+   */
+  public static DateRange quarter(int fiscalYear, int quarter, Month fiscalYearStart) {
+    if (quarter < 1 || quarter > 4) {
+      throw new IllegalArgumentException("quarter must be between 1 and 4");
+    }
+    int startYear = fiscalYearStart == Month.JANUARY ? fiscalYear : fiscalYear - 1;
+    long startMonth = startYear * 12L + fiscalYearStart.getValue() - 1 + (quarter - 1) * 3;
+    // Quarter indexes are proleptic start months divided by 3.
+    return MonthStepNavigation.quarters(fiscalYearStart).rangeAt(Math.floorDiv(startMonth, 3));
+  }
+
+  /**
+   * Gets the fiscal year containing the given date.
+   *
+   * @param date The date to locate.
+   * @param fiscalYearStart The month each fiscal year starts in.
+   * @return The fiscal year, numbered by the calendar year it ends in.
+   */
+  public static int fiscalYearOf(LocalDate date, Month fiscalYearStart) {
+    boolean inStartYear = date.getMonthValue() >= fiscalYearStart.getValue();
+    int startYear = inStartYear ? date.getYear() : date.getYear() - 1;
+    return fiscalYearStart == Month.JANUARY ? startYear : startYear + 1;
+  }
+
+  /**
+   * Gets the number of the fiscal quarter containing the given date.
+   *
+   * @param date The date to locate.
+   * @param fiscalYearStart The month each fiscal year starts in.
+   * @return The quarter number, from 1 to 4.
+   */
+  public static int quarterOf(LocalDate date, Month fiscalYearStart) {
+    return Math.floorMod(date.getMonthValue() - fiscalYearStart.getValue(), 12) / 3 + 1;
+  }
+
+  /**
+   * Gets the consecutive fiscal quarters covering the span from fromDate through toDate.
+   *
+   * @param fromDate The start of the span to cover.
+   * @param toDate The end of the span to cover; must not be before fromDate.
+   * @param fiscalYearStart The month each fiscal year starts in.
+   * @return An unmodifiable list view of the covering quarters, in chronological order; each
+   *     quarter is computed when it is accessed.
+   */
+  public static List<DateRange> quartersCovering(
+      LocalDate fromDate, LocalDate toDate, Month fiscalYearStart) {
+    if (fromDate == null || toDate == null) {
+      throw new IllegalArgumentException("dates required");
+    }
+    if (toDate.isBefore(fromDate)) {
+      throw new IllegalArgumentException("to before from");
+    }
+    MonthStepNavigation navigation = MonthStepNavigation.quarters(fiscalYearStart);
+    long first = navigation.indexOf(fromDate);
+    long last = navigation.indexOf(toDate);
+    return new DateRangeWindowList(navigation.rangeAt(first), 0, last - first);
+  }
+
+  private FiscalQuarterDateRange() {}
+}
@@ -0,0 +1,32 @@
+package com.stano.daterange;
+
+/**
+ * Decides where an annual or semi-annual period starts when its start day does not exist in the
+ * month it falls in, such as February 29th in a common year or the 31st in a 30-day month.
+ *
+ * <p>Whichever policy is chosen, the period before ends on the day before the period starts, so
+ * consecutive periods never overlap or leave gaps.
+ */
+public enum LeapDayPolicy {
+  /**
+   * The period starts on the last day of the short month, and returns to the original day in
+   * months long enough for it. A sequence anchored on February 29th starts on February 28th in
+   * common years, so the period before ends on February 27th.
+   */
+  LAST_DAY_OF_MONTH,
+
+  /**
+   * The period starts on the first day of the month after the short one, and returns to the
+   * original day in months long enough for it. A sequence anchored on February 29th starts on
+   * March 1st in common years, so the period before ends on February 28th.
+   */
+  FIRST_DAY_OF_NEXT_MONTH,
+
+  /**
+   * The periods fall where repeatedly adding (or subtracting) whole periods to the anchor date
+   * would put them: once a period starts on the last day of a short month, every period further
+   * from the anchor keeps that earlier day. A sequence anchored on February 29th starts on
+   * February 28th in every year but the anchor's own.
+   */
+  DRIFT
+}
@@ -0,0 +1,133 @@
+package com.stano.daterange;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, lock-free cache of month boundary tables, shared by every {@link
+ * MonthStepNavigation}.
+ *
+ * <p>A table holds, for one start day of month and one year, the epoch days on which the periods
+ * starting in each month of that year begin (clamped to the last day of shorter months), followed
+ * by the start of the next year's January period. With a table in hand, navigating between
+ * periods or finding the period containing a date is an array lookup rather than a series of
+ * month-length calculations.
+ *
+ * <p>The cache is direct-mapped: each start day and year hashes to one slot, and a table built on
+ * a miss replaces whatever the slot held. Lookups take no lock and box nothing; two threads
+ * missing on the same slot at once each build a table, and either may be kept.
+ *
+ * <p>This class is not instantiable.
+ */
+final class MonthBoundaryCache {
+  /** The maximum number of tables held at once; a power of two. */
+  static final int MAX_TABLES = 512;
+
+  // Epoch days of all years in this range fit in an int; other years are not cached.
+  private static final int MIN_YEAR = -5_000_000;
+  private static final int MAX_YEAR = 5_000_000;
+
+  private static final AtomicReferenceArray<Table> TABLES = new AtomicReferenceArray<>(MAX_TABLES);
+  private static final LongAdder HITS = new LongAdder();
+  private static final LongAdder MISSES = new LongAdder();
+
+  /**
+   * Checks if tables can be built for the given year.
+   *
+   * @param year The year.
+   * @return true if {@link #boundaries(int, int)} accepts year.
+   */
+  static boolean covers(int year) {
+    return year >= MIN_YEAR && year <= MAX_YEAR;
+  }
+
+  /**
+   * Gets the boundary table for the given start day and year, building and caching it on a miss.
+   *
+   * @param dayOfMonth The day of the month periods start on, from 1 to 31.
+   * @param year The year; must be {@linkplain #covers(int) covered}.
+   * @return 13 epoch days: the start of the period beginning in each month of year, then the start
+   *     of the period beginning in January of the following year. The array must not be modified.
+   */
+  static int[] boundaries(int dayOfMonth, int year) {
+    // Start days of one year fall in adjacent slots; consecutive years are 31 slots apart.
+    int slot = Math.floorMod(year * 31 + dayOfMonth - 1, MAX_TABLES);
+    Table table = TABLES.get(slot);
+    if (table != null && table.year == year && table.dayOfMonth == dayOfMonth) {
+      HITS.increment();
+      return table.starts;
+    }
+    MISSES.increment();
+    table = new Table(dayOfMonth, year);
+    TABLES.set(slot, table);
+    return table.starts;
+  }
+
+  /**
+   * Gets the number of lookups answered from the cache since it was last cleared.
+   *
+   * @return The hit count.
+   */
+  static long hits() {
+    return HITS.sum();
+  }
+
+  /**
+   * Gets the number of lookups that had to build a table since the cache was last cleared.
+   *
+   * @return The miss count.
+   */
+  static long misses() {
+    return MISSES.sum();
+  }
+
+  /**
+   * Gets the number of tables currently cached.
+   *
+   * @return The number of tables, at most {@link #MAX_TABLES}.
+   */
+  static int size() {
+    int size = 0;
+    for (int slot = 0; slot < MAX_TABLES; slot++) {
+      if (TABLES.get(slot) != null) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  /** Removes every cached table and resets the hit and miss counts. */
+  static void clear() {
+    for (int slot = 0; slot < MAX_TABLES; slot++) {
+      TABLES.set(slot, null);
+    }
+    HITS.reset();
+    MISSES.reset();
+  }
+
+  private static int startOfMonth(int dayOfMonth, int year, int month) {
+    int day = Math.min(dayOfMonth, Month.of(month).length(Year.isLeap(year)));
+    return (int) LocalDate.of(year, month, day).toEpochDay();
+  }
+
+  private MonthBoundaryCache() {}
+
+  /** One start day and year's boundaries, tagged with its key so a slot can be checked. */
+  private static final class Table {
+    private final int dayOfMonth;
+    private final int year;
+    private final int[] starts = new int[13];
+
+    Table(int dayOfMonth, int year) {
+      this.dayOfMonth = dayOfMonth;
+      this.year = year;
+      for (int month = 1; month <= 12; month++) {
+        starts[month - 1] = startOfMonth(dayOfMonth, year, month);
+      }
+      starts[12] = startOfMonth(dayOfMonth, year + 1, 1);
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package com.stano.daterange;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.Optional;
+
+/**
+ * A {@link PeriodNavigation} for periods made up of a fixed number of calendar months, each
+ * starting on a given day of the month. In months shorter than that day, the period starts on the
+ * last day of the month instead.
+ *
+ * <p>Periods are numbered by the proleptic month (year * 12 + month - 1) of their start, divided
+ * by the number of months per period. This one rule backs the monthly, quarterly, semi-annual and
+ * annual factories.
+ *
+ * <p>Period start dates are read from the shared {@link MonthBoundaryCache}; locating the period
+ * containing a date is plain arithmetic and allocates nothing.
+ */
+final class MonthStepNavigation extends PeriodNavigation {
+  // Shared instances, indexed by months per period, then monthOffset * 31 + dayOfMonth - 1. All
+  // are built up front, so every rule has exactly one instance and caches keyed by navigation
+  // identity always hit.
+  private static final MonthStepNavigation[][] INSTANCES = new MonthStepNavigation[13][];
+
+  static {
+    for (int months = 1; months <= 12; months++) {
+      INSTANCES[months] = new MonthStepNavigation[months * 31];
+      for (int monthOffset = 0; monthOffset < months; monthOffset++) {
+        for (int dayOfMonth = 1; dayOfMonth <= 31; dayOfMonth++) {
+          INSTANCES[months][monthOffset * 31 + dayOfMonth - 1] =
+              new MonthStepNavigation(months, monthOffset, dayOfMonth);
+        }
+      }
+    }
+  }
+
+  private final int months; // months per period
+  private final int monthOffset; // proleptic month of any period start, modulo months
+  private final int dayOfMonth;
+
+  /**
+   * Creates a navigation rule for periods of the given number of months that start on the same
+   * month-of-period and day of month as startDate.
+   *
+   * @param startDate The start date of any one period in the sequence.
+   * @param months The number of calendar months per period.
+   * @return The navigation rule.
+   */
+  static MonthStepNavigation startingOn(LocalDate startDate, int months) {
+    return of(months, Math.floorMod(prolepticMonth(startDate), months), startDate.getDayOfMonth());
+  }
+
+  /**
+   * Creates a navigation rule for single-month periods starting on the given day of the month.
+   *
+   * @param startDay The day of the month each period starts on.
+   * @return The navigation rule.
+   */
+  static MonthStepNavigation monthly(int startDay) {
+    return of(1, 0, startDay);
+  }
+
+  /**
+   * Creates a navigation rule for quarters starting on the 1st of the given month (and of every
+   * third month from it).
+   *
+   * @param firstMonth The month any one quarter starts in.
+   * @return The navigation rule.
+   */
+  static MonthStepNavigation quarters(Month firstMonth) {
+    return of(3, (firstMonth.getValue() - 1) % 3, 1);
+  }
+
+  private static MonthStepNavigation of(int months, int monthOffset, int dayOfMonth) {
+    if (dayOfMonth < 1 || dayOfMonth > 31) {
+      throw new IllegalArgumentException("start day must be between 1 and 31");
+    }
+    return INSTANCES[months][monthOffset * 31 + dayOfMonth - 1];
+  }
+
+  @Override
+  long indexOf(LocalDate date) {
+    long month = prolepticMonth(date);
+    long index = Math.floorDiv(month - monthOffset, months);
+    if (index * months + monthOffset == month && date.getDayOfMonth() < clampedDay(month)) {
+      index--;
+    }
+    return index;
+  }
+
+  @Override
+  LocalDate startOf(long index) {
+    return LocalDate.ofEpochDay(boundary(index * months + monthOffset));
+  }
+
+  @Override
+  long startEpochDayOf(long index) {
+    return boundary(index * months + monthOffset);
+  }
+
+  @Override
+  DateRange rangeAt(long index) {
+    long month = index * months + monthOffset;
+    int year = yearOf(month);
+    if (MonthBoundaryCache.covers(year)) {
+      // One table serves both ends unless the period runs past the next January.
+      int[] starts = MonthBoundaryCache.boundaries(dayOfMonth, year);
+      int first = monthOf(month) - 1;
+      long end = first + months <= 12 ? starts[first + months] : boundary(month + months);
+      return DateRange.ofWithNavigation(
+          LocalDate.ofEpochDay(starts[first]), LocalDate.ofEpochDay(end - 1), this);
+    }
+    return DateRange.ofWithNavigation(
+        LocalDate.ofEpochDay(boundary(month)),
+        LocalDate.ofEpochDay(boundary(month + months) - 1),
+        this);
+  }
+
+  /**
+   * Gets the number of calendar months per period.
+   *
+   * @return The number of months per period.
+   */
+  int months() {
+    return months;
+  }
+
+  @Override
+  public Optional<Integer> startDay() {
+    return months == 1 ? Optional.of(dayOfMonth) : Optional.empty();
+  }
+
+  /**
+   * Gets the epoch day on which the period beginning in the given proleptic month starts, from the
+   * shared {@link MonthBoundaryCache} when the year is covered.
+   */
+  private long boundary(long prolepticMonth) {
+    int year = yearOf(prolepticMonth);
+    if (MonthBoundaryCache.covers(year)) {
+      return MonthBoundaryCache.boundaries(dayOfMonth, year)[monthOf(prolepticMonth) - 1];
+    }
+    return LocalDate.of(year, monthOf(prolepticMonth), clampedDay(prolepticMonth)).toEpochDay();
+  }
+
+  private int clampedDay(long prolepticMonth) {
+    int length = Month.of(monthOf(prolepticMonth)).length(Year.isLeap(yearOf(prolepticMonth)));
+    return Math.min(dayOfMonth, length);
+  }
+
+  private static long prolepticMonth(LocalDate date) {
+    return date.getYear() * 12L + date.getMonthValue() - 1;
+  }
+
+  private static int yearOf(long prolepticMonth) {
+    return Math.toIntExact(Math.floorDiv(prolepticMonth, 12));
+  }
+
+  private static int monthOf(long prolepticMonth) {
+    return Math.floorMod(prolepticMonth, 12) + 1;
+  }
+
+  private MonthStepNavigation(int months, int monthOffset, int dayOfMonth) {
+    this.months = months;
+    this.monthOffset = monthOffset;
+    this.dayOfMonth = dayOfMonth;
+  }
+}
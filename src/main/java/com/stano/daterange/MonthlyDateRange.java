@@ -2,13 +2,17 @@ package com.stano.daterange;
 
 import java.time.LocalDate;
 
-import static com.stano.datetime.DateUtils.*;
-
 /**
  * Static factory for building calendar-month-aligned {@link DateRange}s with a configurable start
  * day, that navigate {@link DateRange#prior()} and {@link DateRange#next()} between consecutive
  * months.
  *
+ * <p>Navigation always lands on ranges starting on the configured start day. In months shorter
+ * than the start day, a range starts on the last day of the month instead.
+ *
+ * <p>Period boundaries are read from a shared, bounded cache of per-year boundary tables, whose
+ * hit and miss counts are exposed for sizing.
+ *
  * <p>This class is not instantiable.
  */
 public final class MonthlyDateRange {
@@ -30,39 +34,50 @@ public final class MonthlyDateRange {
    * @return A new monthly DateRange starting on startDay and ending on endDate.
    */
   public static DateRange withEndDateAndStartDay(LocalDate endDate, int startDay) {
+    MonthStepNavigation navigation = MonthStepNavigation.monthly(startDay);
+    DateRange period = navigation.rangeAt(navigation.indexOf(endDate));
+    if (period.getEndDate().equals(endDate)) {
+      return period;
+    }
     LocalDate startDate = calculateStartDateFromEndDate(endDate, startDay);
-    return DateRange.ofWithPriorNextStartDay(
-        startDate, endDate, MonthlyDateRange::prior, MonthlyDateRange::next, startDay);
+    return DateRange.ofWithNavigation(startDate, endDate, navigation);
   }
 
-  static DateRange prior(DateRange dr) {
-    int startDay = dr.startDay().orElse(1);
-    if (startDay == 1) {
-      LocalDate newEnd = dr.getStartDate().minusDays(1);
-      LocalDate newStart = newEnd.withDayOfMonth(1);
-      return DateRange.ofWithPriorNextStartDay(
-          newStart, newEnd, MonthlyDateRange::prior, MonthlyDateRange::next, startDay);
-    } else {
-      LocalDate newStart = subtractMonths(dr.getStartDate(), 1);
-      LocalDate newEnd = dr.getStartDate().minusDays(1);
-      return DateRange.ofWithPriorNextStartDay(
-          newStart, newEnd, MonthlyDateRange::prior, MonthlyDateRange::next, startDay);
-    }
+  /**
+   * Gets the number of month boundary lookups answered from the shared boundary cache since it was
+   * last cleared. The cache holds, per start day and year, the epoch days on which each period
+   * starts, and backs navigation for the monthly, quarterly, semi-annual and annual factories.
+   *
+   * @return The cache hit count.
+   */
+  public static long boundaryCacheHits() {
+    return MonthBoundaryCache.hits();
   }
 
-  static DateRange next(DateRange dr) {
-    int startDay = dr.startDay().orElse(1);
-    if (startDay == 1) {
-      LocalDate newStart = dr.getEndDate().plusDays(1);
-      LocalDate newEnd = lastDayOfMonth(newStart);
-      return DateRange.ofWithPriorNextStartDay(
-          newStart, newEnd, MonthlyDateRange::prior, MonthlyDateRange::next, startDay);
-    } else {
-      LocalDate newStart = dr.getEndDate().plusDays(1);
-      LocalDate newEnd = addMonths(dr.getEndDate(), 1);
-      return DateRange.ofWithPriorNextStartDay(
-          newStart, newEnd, MonthlyDateRange::prior, MonthlyDateRange::next, startDay);
-    }
+  /**
+   * Gets the number of month boundary lookups that had to build a new table since the shared
+   * boundary cache was last cleared.
+   *
+   * @return The cache miss count.
+   */
+  public static long boundaryCacheMisses() {
+    return MonthBoundaryCache.misses();
+  }
+
+  /**
+   * Gets the number of boundary tables currently held by the shared boundary cache. Each table
+   * covers one start day for one year, and at most 512 tables are held at once; a new table
+   * replaces the one held in its slot.
+   *
+   * @return The number of cached tables.
+   */
+  public static int boundaryCacheSize() {
+    return MonthBoundaryCache.size();
+  }
+
+  /** Empties the shared boundary cache and resets its hit and miss counts. */
+  public static void clearBoundaryCache() {
+    MonthBoundaryCache.clear();
   }
 
   private static LocalDate calculateStartDateFromEndDate(LocalDate endDate, int startDay) {
@@ -74,5 +89,32 @@ public final class MonthlyDateRange {
     }
   }
 
+  /**
+   * Gets the index of the monthly range starting on startDay that contains the given date.
+   *
+   * <p>Ranges are numbered by the proleptic month (year * 12 + month - 1) they start in, so
+   * indexes are dense and ordered and can be used as array offsets and sort keys. The lookup is
+   * plain arithmetic and allocates nothing.
+   *
+   * @param date The date to locate.
+   * @param startDay The day of the month each range starts on.
+   * @return The index of the range containing date.
+   */
+  public static long periodIndexOf(LocalDate date, int startDay) {
+    return MonthStepNavigation.monthly(startDay).indexOf(date);
+  }
+
+  /**
+   * Gets the monthly range starting on startDay with the given index, as numbered by {@link
+   * #periodIndexOf(LocalDate, int)}.
+   *
+   * @param index The range index.
+   * @param startDay The day of the month each range starts on.
+   * @return A new monthly DateRange for that index.
+   */
+  public static DateRange rangeAt(long index, int startDay) {
+    return MonthStepNavigation.monthly(startDay).rangeAt(index);
+  }
+
   private MonthlyDateRange() {}
 }
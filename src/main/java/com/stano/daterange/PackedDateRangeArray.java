@@ -0,0 +1,310 @@
+package com.stano.daterange;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A compact, immutable array of {@link DateRange}s, stored as a single {@code long[]} in which each
+ * range is packed into one long holding its start and end epoch days.
+ *
+ * <p>Ranges are only turned back into {@code DateRange} objects when {@link #get(int)}, {@link
+ * #iterator()} or {@link #toList()} is called, and those ranges use the default shift-by-length
+ * navigation, since navigation rules are not packed. Containment and overlap checks work directly
+ * on the packed values.
+ *
+ * <p>Packed values compare in the same order as their ranges' start dates, with ties broken by end
+ * date, so a sorted {@code long[]} of packed values is also sorted by start date.
+ *
+ * <p>This class is immutable and thread-safe.
+ */
+public final class PackedDateRangeArray implements Iterable<DateRange> {
+  private static final long END_BIAS = 0x8000_0000L; // maps signed int end days onto unsigned order
+  private static final long LOW_MASK = 0xFFFF_FFFFL;
+
+  private final long[] packed;
+
+  /**
+   * Packs a range, given as start and end epoch days, into a single long.
+   *
+   * @param startEpochDay The epoch day of the start date.
+   * @param endEpochDay The epoch day of the end date; must not be before startEpochDay.
+   * @return The packed value.
+   */
+  public static long pack(long startEpochDay, long endEpochDay) {
+    if (endEpochDay < startEpochDay) {
+      throw new IllegalArgumentException("end before start");
+    }
+    if (startEpochDay < Integer.MIN_VALUE || endEpochDay > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("dates out of packable range");
+    }
+    return (startEpochDay << 32) | ((endEpochDay + END_BIAS) & LOW_MASK);
+  }
+
+  /**
+   * Packs a range into a single long.
+   *
+   * @param range The range to pack.
+   * @return The packed value.
+   */
+  public static long pack(DateRange range) {
+    return pack(range.startEpochDay(), range.endEpochDay());
+  }
+
+  /**
+   * Gets the start epoch day of a packed range.
+   *
+   * @param packed The packed value.
+   * @return The epoch day of the start date.
+   */
+  public static long startEpochDay(long packed) {
+    return packed >> 32;
+  }
+
+  /**
+   * Gets the end epoch day of a packed range.
+   *
+   * @param packed The packed value.
+   * @return The epoch day of the end date.
+   */
+  public static long endEpochDay(long packed) {
+    return (packed & LOW_MASK) - END_BIAS;
+  }
+
+  /**
+   * Unpacks a packed range into a new DateRange with the default shift-by-length navigation.
+   *
+   * @param packed The packed value.
+   * @return A new DateRange with the packed start and end dates.
+   */
+  public static DateRange unpack(long packed) {
+    return DateRange.of(
+        LocalDate.ofEpochDay(startEpochDay(packed)), LocalDate.ofEpochDay(endEpochDay(packed)));
+  }
+
+  /**
+   * Creates a new array holding the given ranges, in iteration order.
+   *
+   * @param ranges The ranges to pack.
+   * @return A new PackedDateRangeArray.
+   */
+  public static PackedDateRangeArray of(Collection<DateRange> ranges) {
+    long[] packed = new long[ranges.size()];
+    int i = 0;
+    for (DateRange range : ranges) {
+      packed[i++] = pack(range);
+    }
+    return new PackedDateRangeArray(packed);
+  }
+
+  /**
+   * Creates a new array from already-packed values. The values are copied.
+   *
+   * @param packed The packed values, as produced by {@link #pack(long, long)}.
+   * @return A new PackedDateRangeArray.
+   */
+  public static PackedDateRangeArray ofPacked(long[] packed) {
+    for (long value : packed) {
+      if (endEpochDay(value) < startEpochDay(value)) {
+        throw new IllegalArgumentException("end before start");
+      }
+    }
+    return new PackedDateRangeArray(packed.clone());
+  }
+
+  /**
+   * Gets the number of ranges in the array.
+   *
+   * @return The number of ranges.
+   */
+  public int size() {
+    return packed.length;
+  }
+
+  /**
+   * Gets the range at the given index, as a new DateRange.
+   *
+   * @param index The index of the range.
+   * @return A new DateRange with the start and end dates stored at index.
+   */
+  public DateRange get(int index) {
+    return unpack(packed[index]);
+  }
+
+  /**
+   * Gets the packed value of the range at the given index.
+   *
+   * @param index The index of the range.
+   * @return The packed value.
+   */
+  public long getPacked(int index) {
+    return packed[index];
+  }
+
+  /**
+   * Gets the start epoch day of the range at the given index.
+   *
+   * @param index The index of the range.
+   * @return The epoch day of the start date.
+   */
+  public long startEpochDay(int index) {
+    return startEpochDay(packed[index]);
+  }
+
+  /**
+   * Gets the end epoch day of the range at the given index.
+   *
+   * @param index The index of the range.
+   * @return The epoch day of the end date.
+   */
+  public long endEpochDay(int index) {
+    return endEpochDay(packed[index]);
+  }
+
+  /**
+   * Checks if the range at the given index contains a date, inclusive of its start and end dates.
+   *
+   * @param index The index of the range.
+   * @param date The date to check.
+   * @return true if date falls within the range at index.
+   */
+  public boolean containsDate(int index, LocalDate date) {
+    long day = date.toEpochDay();
+    long value = packed[index];
+    return day >= startEpochDay(value) && day <= endEpochDay(value);
+  }
+
+  /**
+   * Checks if the range at the given index overlaps another range.
+   *
+   * @param index The index of the range.
+   * @param other The DateRange to check.
+   * @return true if other shares at least one day with the range at index.
+   */
+  public boolean overlaps(int index, DateRange other) {
+    long value = packed[index];
+    return startEpochDay(value) <= other.endEpochDay()
+        && endEpochDay(value) >= other.startEpochDay();
+  }
+
+  /**
+   * Checks if the array is sorted by start date, as required by {@link #binarySearchByStart}.
+   *
+   * @return true if every range starts on or after the range before it.
+   */
+  public boolean isSorted() {
+    for (int i = 1; i < packed.length; i++) {
+      if (packed[i] < packed[i - 1]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Gets a copy of this array sorted by start date, then end date.
+   *
+   * @return A new, sorted PackedDateRangeArray.
+   */
+  public PackedDateRangeArray sorted() {
+    long[] copy = packed.clone();
+    Arrays.sort(copy);
+    return new PackedDateRangeArray(copy);
+  }
+
+  /**
+   * Searches a sorted array for the first range starting on the given date. The array must be
+   * sorted (see {@link #sorted()}); otherwise the result is undefined.
+   *
+   * @param startDate The start date to search for.
+   * @return The index of the first range starting on startDate, if there is one; otherwise {@code
+   *     (-(insertion point) - 1)}, where the insertion point is the index of the first range
+   *     starting after startDate, or {@link #size()} if there is none.
+   */
+  public int binarySearchByStart(LocalDate startDate) {
+    long key = startDate.toEpochDay();
+    int low = 0;
+    int high = packed.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (startEpochDay(packed[mid]) < key) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return (low < packed.length && startEpochDay(packed[low]) == key) ? low : -(low + 1);
+  }
+
+  /**
+   * Gets every range in the array as a new list of DateRanges, in array order.
+   *
+   * @return A new list of the ranges.
+   */
+  public List<DateRange> toList() {
+    List<DateRange> res = new ArrayList<>(packed.length);
+    for (long value : packed) {
+      res.add(unpack(value));
+    }
+    return res;
+  }
+
+  /**
+   * Gets a copy of the packed values backing this array.
+   *
+   * @return A new array of the packed values.
+   */
+  public long[] toPackedArray() {
+    return packed.clone();
+  }
+
+  /**
+   * Gets an iterator over the ranges in the array, creating each DateRange as it is reached.
+   *
+   * @return An iterator over the ranges.
+   */
+  @Override
+  public Iterator<DateRange> iterator() {
+    return new Iterator<DateRange>() {
+      private int cur;
+
+      @Override
+      public boolean hasNext() {
+        return cur < packed.length;
+      }
+
+      @Override
+      public DateRange next() {
+        if (cur >= packed.length) {
+          throw new NoSuchElementException();
+        }
+        return unpack(packed[cur++]);
+      }
+    };
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof PackedDateRangeArray)) {
+      return false;
+    }
+    PackedDateRangeArray that = (PackedDateRangeArray) o;
+    return Arrays.equals(packed, that.packed);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(packed);
+  }
+
+  private PackedDateRangeArray(long[] packed) {
+    this.packed = packed;
+  }
+}
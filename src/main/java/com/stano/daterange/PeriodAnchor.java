@@ -0,0 +1,91 @@
+package com.stano.daterange;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Fixes where the periods of a {@link DateRangeType} fall, by naming the start date of any one
+ * period in the sequence.
+ *
+ * <p>Weekly and bi-weekly periods start every 7 or 14 days from that date; monthly, quarterly,
+ * semi-annual and annual periods start every 1, 3, 6 or 12 months from it, on its day of the month
+ * (or the last day of shorter months). Semi-monthly periods are fixed and ignore the anchor.
+ *
+ * <p>This class is immutable and thread-safe.
+ */
+public final class PeriodAnchor {
+  private final LocalDate startDate;
+
+  /**
+   * Creates an anchor for periods one of which starts on the given date.
+   *
+   * @param startDate The start date of any one period.
+   * @return A new PeriodAnchor.
+   */
+  public static PeriodAnchor startingOn(LocalDate startDate) {
+    if (startDate == null) {
+      throw new IllegalArgumentException("start date required");
+    }
+    return new PeriodAnchor(startDate);
+  }
+
+  /**
+   * Creates an anchor for weekly periods ending on the given day of the week.
+   *
+   * @param endDay The day of the week each period ends on.
+   * @return A new PeriodAnchor.
+   */
+  public static PeriodAnchor weeksEndingOn(DayOfWeek endDay) {
+    if (endDay == null) {
+      throw new IllegalArgumentException("end day required");
+    }
+    // 1970-01-01 is a Thursday; step forward to the first day after endDay.
+    int offset = Math.floorMod(endDay.getValue() + 1 - DayOfWeek.THURSDAY.getValue(), 7);
+    return new PeriodAnchor(LocalDate.ofEpochDay(offset));
+  }
+
+  /**
+   * Creates an anchor for monthly-based periods starting on the given day of the month, with the
+   * first period of each year starting in January.
+   *
+   * @param startDay The day of the month each period starts on, from 1 to 31.
+   * @return A new PeriodAnchor.
+   */
+  public static PeriodAnchor monthsStartingOn(int startDay) {
+    if (startDay < 1 || startDay > 31) {
+      throw new IllegalArgumentException("start day must be between 1 and 31");
+    }
+    return new PeriodAnchor(LocalDate.of(2000, 1, startDay));
+  }
+
+  /**
+   * Gets the start date of the period this anchor names.
+   *
+   * @return The anchor's start date.
+   */
+  public LocalDate getStartDate() {
+    return startDate;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof PeriodAnchor)) {
+      return false;
+    }
+    PeriodAnchor that = (PeriodAnchor) o;
+    return Objects.equals(startDate, that.startDate);
+  }
+
+  @Override
+  public int hashCode() {
+    return startDate.hashCode();
+  }
+
+  private PeriodAnchor(LocalDate startDate) {
+    this.startDate = startDate;
+  }
+}
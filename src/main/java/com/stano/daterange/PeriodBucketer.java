@@ -0,0 +1,292 @@
+package com.stano.daterange;
+
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static com.stano.datetime.DateUtils.monthAndDay;
+
+/**
+ * Assigns large arrays of dates to the periods of one recurring {@link DateRangeType}, writing the
+ * index of each date's period into an output array.
+ *
+ * <p>Indexes are the same ones returned by the factories' {@code periodIndexOf} methods (for
+ * example {@link WeeklyDateRange#periodIndexOf(LocalDate, java.time.DayOfWeek)} or {@link
+ * MonthlyDateRange#periodIndexOf(LocalDate, int)}), so {@code rangeAt} turns a bucket back into
+ * its range. Dates are processed in simple branch-light loops over primitive epoch days, with the
+ * period kind chosen once per call rather than per element. Arrays at least as long as the
+ * parallel threshold are split across the common fork-join pool.
+ *
+ * <p>This class is immutable and thread-safe.
+ */
+public final class PeriodBucketer {
+  /** The parallel threshold that turns parallelism off; bucketers start with it. */
+  public static final int NO_PARALLELISM = Integer.MAX_VALUE;
+
+  private static final int MIN_SPLIT = 1 << 14; // smallest slice worth handing to another thread
+
+  private enum Mode {
+    DAY_STEP,
+    SEMI_MONTHLY,
+    MONTH_STEP
+  }
+
+  private final Mode mode;
+  private final int step; // days per period for DAY_STEP, months per period for MONTH_STEP
+  private final int offset; // epoch day (DAY_STEP) or proleptic month (MONTH_STEP) modulo step
+  private final int startDay; // MONTH_STEP only
+  private final int parallelThreshold;
+
+  /**
+   * Creates a new bucketer for the periods of the given type that line up with anchorDate.
+   *
+   * <p>anchorDate is the start date of any one period, as named by {@link
+   * PeriodAnchor#getStartDate()}, so indexes match the ranges from {@link
+   * DateRangeType#rangeContaining(LocalDate, PeriodAnchor)}; monthly-based periods start on its day
+   * of the month. {@link DateRangeType#SEMI_MONTHLY} periods are fixed, so anchorDate is ignored
+   * and may be null.
+   *
+   * @param type The period type.
+   * @param anchorDate The date the periods line up with.
+   * @return A new PeriodBucketer, with parallelism off.
+   */
+  public static PeriodBucketer of(DateRangeType type, LocalDate anchorDate) {
+    if (type == null) {
+      throw new IllegalArgumentException("type required");
+    }
+    if (anchorDate == null && type != DateRangeType.SEMI_MONTHLY) {
+      throw new IllegalArgumentException("anchor date required");
+    }
+    return switch (type) {
+      case WEEKLY -> daySteps(7, anchorDate);
+      case BI_WEEKLY -> daySteps(14, anchorDate);
+      case SEMI_MONTHLY -> new PeriodBucketer(Mode.SEMI_MONTHLY, 0, 0, 0, NO_PARALLELISM);
+      case MONTHLY -> monthSteps(1, anchorDate);
+      case QUARTERLY -> monthSteps(3, anchorDate);
+      case SEMI_ANNUAL -> monthSteps(6, anchorDate);
+      case ANNUAL -> monthSteps(12, anchorDate);
+    };
+  }
+
+  /**
+   * Gets a copy of this bucketer that splits arrays of at least the given length across the
+   * common fork-join pool.
+   *
+   * @param threshold The minimum array length to process in parallel; {@link #NO_PARALLELISM}
+   *     turns parallelism off.
+   * @return A new PeriodBucketer with the given threshold.
+   */
+  public PeriodBucketer withParallelThreshold(int threshold) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException("threshold must be positive");
+    }
+    return new PeriodBucketer(mode, step, offset, startDay, threshold);
+  }
+
+  /**
+   * Gets the index of the period containing a single date, given as an epoch day.
+   *
+   * @param epochDay The epoch day of the date.
+   * @return The index of the period containing that date.
+   */
+  public long indexOf(long epochDay) {
+    return switch (mode) {
+      case DAY_STEP -> dayStepIndex(epochDay, step, offset);
+      case SEMI_MONTHLY -> semiMonthlyIndex(epochDay);
+      case MONTH_STEP -> monthStepIndex(epochDay, step, offset, startDay);
+    };
+  }
+
+  /**
+   * Writes the period index of each epoch day into out, at the same position.
+   *
+   * @param epochDays The epoch days to bucket.
+   * @param out The array receiving the indexes; must be at least as long as epochDays.
+   */
+  public void bucket(int[] epochDays, long[] out) {
+    checkLength(epochDays.length, out);
+    run(epochDays.length, (from, to) -> bucketRange(epochDays, out, from, to));
+  }
+
+  /**
+   * Writes the period index of each epoch day into out, at the same position.
+   *
+   * @param epochDays The epoch days to bucket.
+   * @param out The array receiving the indexes; must be at least as long as epochDays.
+   */
+  public void bucket(long[] epochDays, long[] out) {
+    checkLength(epochDays.length, out);
+    run(epochDays.length, (from, to) -> bucketRange(epochDays, out, from, to));
+  }
+
+  /**
+   * Writes the period index of each date into out, at the same position.
+   *
+   * @param dates The dates to bucket; must not contain nulls.
+   * @param out The array receiving the indexes; must be at least as long as dates.
+   */
+  public void bucket(LocalDate[] dates, long[] out) {
+    checkLength(dates.length, out);
+    run(dates.length, (from, to) -> bucketRange(dates, out, from, to));
+  }
+
+  private void bucketRange(LocalDate[] in, long[] out, int from, int to) {
+    int step = this.step;
+    int offset = this.offset;
+    int startDay = this.startDay;
+    switch (mode) {
+      case DAY_STEP -> {
+        for (int i = from; i < to; i++) {
+          out[i] = dayStepIndex(in[i].toEpochDay(), step, offset);
+        }
+      }
+      case SEMI_MONTHLY -> {
+        for (int i = from; i < to; i++) {
+          out[i] = semiMonthlyIndex(in[i].toEpochDay());
+        }
+      }
+      case MONTH_STEP -> {
+        for (int i = from; i < to; i++) {
+          out[i] = monthStepIndex(in[i].toEpochDay(), step, offset, startDay);
+        }
+      }
+    }
+  }
+
+  private void bucketRange(int[] in, long[] out, int from, int to) {
+    int step = this.step;
+    int offset = this.offset;
+    int startDay = this.startDay;
+    switch (mode) {
+      case DAY_STEP -> {
+        for (int i = from; i < to; i++) {
+          out[i] = dayStepIndex(in[i], step, offset);
+        }
+      }
+      case SEMI_MONTHLY -> {
+        for (int i = from; i < to; i++) {
+          out[i] = semiMonthlyIndex(in[i]);
+        }
+      }
+      case MONTH_STEP -> {
+        for (int i = from; i < to; i++) {
+          out[i] = monthStepIndex(in[i], step, offset, startDay);
+        }
+      }
+    }
+  }
+
+  private void bucketRange(long[] in, long[] out, int from, int to) {
+    int step = this.step;
+    int offset = this.offset;
+    int startDay = this.startDay;
+    switch (mode) {
+      case DAY_STEP -> {
+        for (int i = from; i < to; i++) {
+          out[i] = dayStepIndex(in[i], step, offset);
+        }
+      }
+      case SEMI_MONTHLY -> {
+        for (int i = from; i < to; i++) {
+          out[i] = semiMonthlyIndex(in[i]);
+        }
+      }
+      case MONTH_STEP -> {
+        for (int i = from; i < to; i++) {
+          out[i] = monthStepIndex(in[i], step, offset, startDay);
+        }
+      }
+    }
+  }
+
+  private void run(int length, Slice slice) {
+    if (length < parallelThreshold || length < 2 * MIN_SPLIT) {
+      slice.apply(0, length);
+      return;
+    }
+    int leaf = Math.max(MIN_SPLIT, length / (ForkJoinPool.getCommonPoolParallelism() * 4) + 1);
+    ForkJoinPool.commonPool().invoke(new SliceTask(slice, 0, length, leaf));
+  }
+
+  private static void checkLength(int length, long[] out) {
+    if (out.length < length) {
+      throw new IllegalArgumentException("output array too short");
+    }
+  }
+
+  private static long dayStepIndex(long epochDay, int days, int offset) {
+    return Math.floorDiv(epochDay - offset, days);
+  }
+
+  private static long semiMonthlyIndex(long epochDay) {
+    long packed = monthAndDay(epochDay);
+    long day = packed & 31;
+    // (15 - day) >>> 63 is 1 for days after the 15th, without a branch
+    return (packed >> 5) * 2 + ((15 - day) >>> 63);
+  }
+
+  private static long monthStepIndex(long epochDay, int months, int offset, int startDay) {
+    long packed = monthAndDay(epochDay);
+    long monthsFromOffset = (packed >> 5) - offset;
+    long index = Math.floorDiv(monthsFromOffset, months);
+    if (index * months == monthsFromOffset && (packed & 31) < startDay) {
+      // In a period's first month, before its start day: the date belongs to the prior period,
+      // unless the start day was clamped to this short month's last day and the date is that day.
+      if (startDay <= 28 || (monthAndDay(epochDay + 1) & 31) != 1) {
+        index--;
+      }
+    }
+    return index;
+  }
+
+  private static PeriodBucketer daySteps(int days, LocalDate anchorDate) {
+    int offset = Math.floorMod(anchorDate.toEpochDay(), days);
+    return new PeriodBucketer(Mode.DAY_STEP, days, offset, 0, NO_PARALLELISM);
+  }
+
+  private static PeriodBucketer monthSteps(int months, LocalDate anchorDate) {
+    long anchorMonth = anchorDate.getYear() * 12L + anchorDate.getMonthValue() - 1;
+    int offset = Math.floorMod(anchorMonth, months);
+    return new PeriodBucketer(
+        Mode.MONTH_STEP, months, offset, anchorDate.getDayOfMonth(), NO_PARALLELISM);
+  }
+
+  private PeriodBucketer(Mode mode, int step, int offset, int startDay, int parallelThreshold) {
+    this.mode = mode;
+    this.step = step;
+    this.offset = offset;
+    this.startDay = startDay;
+    this.parallelThreshold = parallelThreshold;
+  }
+
+  @FunctionalInterface
+  private interface Slice {
+    void apply(int from, int to);
+  }
+
+  private static final class SliceTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Slice slice;
+    private final int from;
+    private final int to;
+    private final int leaf;
+
+    SliceTask(Slice slice, int from, int to, int leaf) {
+      this.slice = slice;
+      this.from = from;
+      this.to = to;
+      this.leaf = leaf;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= leaf) {
+        slice.apply(from, to);
+        return;
+      }
+      int mid = (from + to) >>> 1;
+      invokeAll(new SliceTask(slice, from, mid, leaf), new SliceTask(slice, mid, to, leaf));
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package com.stano.daterange;
+
+import java.time.LocalDate;
+
+/**
+ * A {@link DateRangeNavigation} for calendar periods that can be numbered, so that every period is
+ * identified by a long index and adjacent periods differ by one.
+ *
+ * <p>Subclasses only map between dates and period indexes; navigation and lookups are then plain
+ * index arithmetic, with no stepping from one period to the next.
+ */
+abstract class PeriodNavigation implements DateRangeNavigation {
+  /**
+   * Gets the index of the period containing the given date.
+   *
+   * @param date The date to locate.
+   * @return The index of the period containing date.
+   */
+  abstract long indexOf(LocalDate date);
+
+  /**
+   * Gets the start date of the period with the given index.
+   *
+   * @param index The period index.
+   * @return The first date of that period.
+   */
+  abstract LocalDate startOf(long index);
+
+  /**
+   * Gets the epoch day on which the period with the given index starts. Subclasses that can work
+   * this out without building a date override it for bulk generation.
+   *
+   * @param index The period index.
+   * @return The epoch day of the first date of that period.
+   */
+  long startEpochDayOf(long index) {
+    return startOf(index).toEpochDay();
+  }
+
+  /**
+   * Gets the period with the given index, ending the day before the following period starts.
+   *
+   * @param index The period index.
+   * @return The DateRange for that period.
+   */
+  DateRange rangeAt(long index) {
+    return DateRange.ofWithNavigation(startOf(index), startOf(index + 1).minusDays(1), this);
+  }
+
+  @Override
+  public DateRange prior(DateRange range) {
+    long index = indexOf(range.getStartDate());
+    if (isPeriod(range, index)) {
+      return rangeAt(index - 1);
+    }
+    LocalDate end = range.getStartDate().minusDays(1);
+    return DateRange.ofWithNavigation(startOf(indexOf(end)), end, this);
+  }
+
+  @Override
+  public DateRange next(DateRange range) {
+    long index = indexOf(range.getStartDate());
+    if (isPeriod(range, index)) {
+      return rangeAt(index + 1);
+    }
+    LocalDate start = range.getEndDate().plusDays(1);
+    return DateRange.ofWithNavigation(
+        start, LocalDate.ofEpochDay(startEpochDayOf(indexOf(start) + 1) - 1), this);
+  }
+
+  @Override
+  public DateRange shift(DateRange range, long periods) {
+    DateRange shifted = range;
+    long remaining = periods;
+    // A range off the grid steps back onto it first, in at most two steps.
+    while (remaining != 0 && !isPeriod(shifted, indexOf(shifted.getStartDate()))) {
+      shifted = remaining > 0 ? next(shifted) : prior(shifted);
+      remaining -= Long.signum(remaining);
+    }
+    if (remaining == 0) {
+      return shifted;
+    }
+    return rangeAt(indexOf(shifted.getStartDate()) + remaining);
+  }
+
+  @Override
+  public DateRange containing(DateRange range, LocalDate date) {
+    if (range.containsDate(date)) {
+      return range;
+    }
+    // The periods either side of an off-grid range are cut short to meet it; further out, the
+    // sequence is back on the grid.
+    long index = indexOf(date);
+    if (date.isAfter(range.getEndDate())) {
+      if (index == indexOf(range.getEndDate().plusDays(1))) {
+        return next(range);
+      }
+    } else if (index == indexOf(range.getStartDate().minusDays(1))) {
+      return prior(range);
+    }
+    return rangeAt(index);
+  }
+
+  /**
+   * Checks if a range is exactly the period with the given index. Factories that honour an
+   * arbitrary end date can build ranges off the grid; navigating from one of those continues from
+   * its own boundaries, so the next range starts the day after it ends and runs to the end of the
+   * period containing that day, and the prior range likewise ends the day before it starts.
+   */
+  private boolean isPeriod(DateRange range, long index) {
+    return range.getStartDate().toEpochDay() == startEpochDayOf(index)
+        && range.getEndDate().toEpochDay() == startEpochDayOf(index + 1) - 1;
+  }
+}
@@ -0,0 +1,260 @@
+package com.stano.daterange;
+
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * The boundaries of every period of one {@link DateRangeType} covering a span of dates, held as a
+ * single array of epoch days rather than as {@link DateRange} objects.
+ *
+ * <p>The boundaries are generated in one pass when the sequence is built, and locating the period
+ * containing a date is a binary search over them. Positions within the sequence run from 0 to
+ * {@link #size()} - 1; {@link #periodIndex(int)} turns a position into the period index used by
+ * the factories' {@code periodIndexOf} and {@code rangeAt} methods.
+ *
+ * <p>Recently built sequences are memoized by type, anchor sequence and span, so asking again for
+ * the same periods returns the same instance.
+ *
+ * <p>This class is immutable and thread-safe.
+ */
+public final class PeriodSequence {
+  /** The maximum number of sequences memoized at once. */
+  static final int MAX_SEQUENCES = 64;
+
+  private static final Map<Key, PeriodSequence> SEQUENCES =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, PeriodSequence> eldest) {
+          return size() > MAX_SEQUENCES;
+        }
+      };
+
+  private final PeriodNavigation navigation;
+  private final long firstIndex;
+  private final int[] boundaries; // start epoch day of each period, then the day after the last
+
+  /**
+   * Gets the consecutive periods of the given type covering the span from fromDate through toDate.
+   *
+   * @param type The period type.
+   * @param anchor Where the periods fall; ignored, and may be null, for {@link
+   *     DateRangeType#SEMI_MONTHLY}.
+   * @param fromDate The start of the span to cover.
+   * @param toDate The end of the span to cover; must not be before fromDate.
+   * @return The PeriodSequence, possibly one built by an earlier call for the same periods.
+   */
+  public static PeriodSequence of(
+      DateRangeType type, PeriodAnchor anchor, LocalDate fromDate, LocalDate toDate) {
+    if (type == null) {
+      throw new IllegalArgumentException("type required");
+    }
+    if (fromDate == null || toDate == null) {
+      throw new IllegalArgumentException("dates required");
+    }
+    if (toDate.isBefore(fromDate)) {
+      throw new IllegalArgumentException("to before from");
+    }
+    PeriodNavigation navigation = type.navigationFor(anchor);
+    Key key = new Key(navigation, navigation.indexOf(fromDate), navigation.indexOf(toDate));
+    synchronized (SEQUENCES) {
+      PeriodSequence sequence = SEQUENCES.get(key);
+      if (sequence != null) {
+        return sequence;
+      }
+    }
+    // Built outside the lock so a long span does not hold up other callers; if another thread
+    // memoized the same periods meanwhile, its instance wins.
+    PeriodSequence built = new PeriodSequence(navigation, key.firstIndex, key.lastIndex);
+    synchronized (SEQUENCES) {
+      PeriodSequence sequence = SEQUENCES.putIfAbsent(key, built);
+      return sequence != null ? sequence : built;
+    }
+  }
+
+  /**
+   * Gets the number of periods in the sequence.
+   *
+   * @return The number of periods.
+   */
+  public int size() {
+    return boundaries.length - 1;
+  }
+
+  /**
+   * Gets the start epoch day of the period at the given position.
+   *
+   * @param position The position of the period, from 0 to {@link #size()} - 1.
+   * @return The epoch day of the period's first date.
+   */
+  public int startEpochDay(int position) {
+    checkPosition(position);
+    return boundaries[position];
+  }
+
+  /**
+   * Gets the end epoch day of the period at the given position.
+   *
+   * @param position The position of the period, from 0 to {@link #size()} - 1.
+   * @return The epoch day of the period's last date.
+   */
+  public int endEpochDay(int position) {
+    checkPosition(position);
+    return boundaries[position + 1] - 1;
+  }
+
+  /**
+   * Gets the start epoch days of every period, in order.
+   *
+   * @return A new array holding each period's first epoch day.
+   */
+  public int[] startEpochDays() {
+    int[] starts = new int[size()];
+    System.arraycopy(boundaries, 0, starts, 0, starts.length);
+    return starts;
+  }
+
+  /**
+   * Gets the end epoch days of every period, in order.
+   *
+   * @return A new array holding each period's last epoch day.
+   */
+  public int[] endEpochDays() {
+    int[] ends = new int[size()];
+    for (int i = 0; i < ends.length; i++) {
+      ends[i] = boundaries[i + 1] - 1;
+    }
+    return ends;
+  }
+
+  /**
+   * Gets the period index of the period at the given position.
+   *
+   * @param position The position of the period, from 0 to {@link #size()} - 1.
+   * @return The index the factories' {@code periodIndexOf} methods return for that period.
+   */
+  public long periodIndex(int position) {
+    checkPosition(position);
+    return firstIndex + position;
+  }
+
+  /**
+   * Gets the position of the period containing the given epoch day.
+   *
+   * @param epochDay The epoch day to locate.
+   * @return The position of the containing period, or -1 if the day is outside the sequence.
+   */
+  public int positionOf(long epochDay) {
+    if (epochDay < boundaries[0] || epochDay >= boundaries[boundaries.length - 1]) {
+      return -1;
+    }
+    int low = 0;
+    int high = boundaries.length - 1;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (boundaries[mid] <= epochDay) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low - 1;
+  }
+
+  /**
+   * Gets the position of the period containing the given date.
+   *
+   * @param date The date to locate.
+   * @return The position of the containing period, or -1 if the date is outside the sequence.
+   */
+  public int positionOf(LocalDate date) {
+    return positionOf(date.toEpochDay());
+  }
+
+  /**
+   * Gets the period at the given position, as a new DateRange.
+   *
+   * @param position The position of the period, from 0 to {@link #size()} - 1.
+   * @return A new DateRange for that period, navigating between periods of the sequence's type.
+   */
+  public DateRange get(int position) {
+    checkPosition(position);
+    return DateRange.ofWithNavigation(
+        LocalDate.ofEpochDay(boundaries[position]),
+        LocalDate.ofEpochDay(boundaries[position + 1] - 1),
+        navigation);
+  }
+
+  /**
+   * Gets the periods of the sequence as a list.
+   *
+   * @return An unmodifiable list view of the periods, in chronological order; each DateRange is
+   *     created when it is accessed.
+   */
+  public List<DateRange> ranges() {
+    return new RangeList();
+  }
+
+  private void checkPosition(int position) {
+    if (position < 0 || position >= size()) {
+      throw new IndexOutOfBoundsException(position);
+    }
+  }
+
+  private PeriodSequence(PeriodNavigation navigation, long firstIndex, long lastIndex) {
+    this.navigation = navigation;
+    this.firstIndex = firstIndex;
+    this.boundaries = new int[Math.toIntExact(lastIndex - firstIndex + 2)];
+    for (int i = 0; i < boundaries.length; i++) {
+      boundaries[i] = Math.toIntExact(navigation.startEpochDayOf(firstIndex + i));
+    }
+  }
+
+  private final class RangeList extends AbstractList<DateRange> implements RandomAccess {
+    @Override
+    public DateRange get(int index) {
+      return PeriodSequence.this.get(index);
+    }
+
+    @Override
+    public int size() {
+      return PeriodSequence.this.size();
+    }
+  }
+
+  private static final class Key {
+    private final PeriodNavigation navigation; // shared per type and anchor sequence
+    private final long firstIndex;
+    private final long lastIndex;
+
+    Key(PeriodNavigation navigation, long firstIndex, long lastIndex) {
+      this.navigation = navigation;
+      this.firstIndex = firstIndex;
+      this.lastIndex = lastIndex;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return navigation == that.navigation
+          && firstIndex == that.firstIndex
+          && lastIndex == that.lastIndex;
+    }
+
+    @Override
+    public int hashCode() {
+      int result = System.identityHashCode(navigation);
+      result = 31 * result + Long.hashCode(firstIndex);
+      return 31 * result + Long.hashCode(lastIndex);
+    }
+  }
+}
@@ -21,8 +21,7 @@ public final class QuarterlyDateRange {
   public static DateRange withStartDate(LocalDate startDate) {
     LocalDate start = firstDayOfMonth(startDate);
     LocalDate end = lastDayOfMonth(addMonths(firstDayOfMonth(startDate), 2));
-    return DateRange.ofWithPriorNext(
-        start, end, QuarterlyDateRange::prior, QuarterlyDateRange::next);
+    return DateRange.ofWithNavigation(start, end, MonthStepNavigation.startingOn(start, 3));
   }
 
   /**
@@ -35,22 +34,37 @@ public final class QuarterlyDateRange {
   public static DateRange withEndDate(LocalDate endDate) {
     LocalDate start = subtractMonths(firstDayOfMonth(endDate), 2);
     LocalDate end = lastDayOfMonth(endDate);
-    return DateRange.ofWithPriorNext(
-        start, end, QuarterlyDateRange::prior, QuarterlyDateRange::next);
+    return DateRange.ofWithNavigation(start, end, MonthStepNavigation.startingOn(start, 3));
   }
 
-  static DateRange prior(DateRange dr) {
-    LocalDate start = subtractMonths(dr.getStartDate(), 3);
-    LocalDate end = lastDayOfMonth(subtractMonths(firstDayOfMonth(dr.getEndDate()), 3));
-    return DateRange.ofWithPriorNext(
-        start, end, QuarterlyDateRange::prior, QuarterlyDateRange::next);
+  /**
+   * Gets the index of the quarterly range containing the given date, in the sequence of ranges
+   * anchored on anchorDate.
+   *
+   * <p>Ranges are numbered by the proleptic month (year * 12 + month - 1) they start in, divided
+   * by 3, so indexes are dense and ordered and can be used as array offsets and sort keys. The
+   * lookup is plain arithmetic and allocates nothing.
+   *
+   * @param date The date to locate.
+   * @param anchorDate A date in the first month of any one quarter in the sequence, as passed to
+   *     {@link #withStartDate(LocalDate)}.
+   * @return The index of the range containing date.
+   */
+  public static long periodIndexOf(LocalDate date, LocalDate anchorDate) {
+    return MonthStepNavigation.startingOn(firstDayOfMonth(anchorDate), 3).indexOf(date);
   }
 
-  static DateRange next(DateRange dr) {
-    LocalDate start = addMonths(dr.getStartDate(), 3);
-    LocalDate end = lastDayOfMonth(addMonths(firstDayOfMonth(dr.getEndDate()), 3));
-    return DateRange.ofWithPriorNext(
-        start, end, QuarterlyDateRange::prior, QuarterlyDateRange::next);
+  /**
+   * Gets the quarterly range with the given index, as numbered by {@link #periodIndexOf(LocalDate,
+   * LocalDate)}.
+   *
+   * @param index The range index.
+   * @param anchorDate A date in the first month of any one quarter in the sequence, as passed to
+   *     {@link #withStartDate(LocalDate)}.
+   * @return A new quarterly DateRange for that index.
+   */
+  public static DateRange rangeAt(long index, LocalDate anchorDate) {
+    return MonthStepNavigation.startingOn(firstDayOfMonth(anchorDate), 3).rangeAt(index);
   }
 
   private QuarterlyDateRange() {}
@@ -2,13 +2,15 @@ package com.stano.daterange;
 
 import java.time.LocalDate;
 
-import static com.stano.datetime.DateUtils.addMonths;
-import static com.stano.datetime.DateUtils.subtractMonths;
-
 /**
  * Static factory for building 6-calendar-month {@link DateRange}s that navigate {@link
  * DateRange#prior()} and {@link DateRange#next()} between consecutive half-year periods.
  *
+ * <p>Every range in a sequence starts on the same day of the month as the range it was navigated
+ * from, or on the last day of the month when that month is shorter, so navigation does not drift
+ * at month-end. The overloads taking a {@link LeapDayPolicy} can instead start such periods on
+ * the 1st of the following month, or let the start day drift as repeated six-month steps would.
+ *
  * <p>This class is not instantiable.
  */
 public final class SemiAnnualDateRange {
@@ -19,9 +21,22 @@ public final class SemiAnnualDateRange {
    * @return A new 6-month DateRange starting on startDate.
    */
   public static DateRange withStartDate(LocalDate startDate) {
-    LocalDate endDate = addMonths(startDate, 6).minusDays(1);
-    return DateRange.ofWithPriorNext(
-        startDate, endDate, SemiAnnualDateRange::prior, SemiAnnualDateRange::next);
+    PeriodNavigation navigation = MonthStepNavigation.startingOn(startDate, 6);
+    return navigation.rangeAt(navigation.indexOf(startDate));
+  }
+
+  /**
+   * Creates a 6-month range starting on the given date, in a sequence whose periods are placed by
+   * the given leap-day policy wherever their start day is missing from the month.
+   *
+   * @param startDate The start date of the range.
+   * @param policy Where periods start when their start day is missing from the month.
+   * @return A new 6-month DateRange starting on startDate, ending the day before the next period
+   *     starts.
+   */
+  public static DateRange withStartDate(LocalDate startDate, LeapDayPolicy policy) {
+    PeriodNavigation navigation = AnniversaryNavigation.of(startDate, 6, policy);
+    return navigation.rangeAt(navigation.indexOf(startDate));
   }
 
   /**
@@ -31,23 +46,80 @@ public final class SemiAnnualDateRange {
    * @return A new 6-month DateRange ending on endDate.
    */
   public static DateRange withEndDate(LocalDate endDate) {
-    LocalDate startDate = subtractMonths(endDate, 6).plusDays(1);
-    return DateRange.ofWithPriorNext(
-        startDate, endDate, SemiAnnualDateRange::prior, SemiAnnualDateRange::next);
+    // The sequence whose next range starts the day after endDate.
+    PeriodNavigation navigation = MonthStepNavigation.startingOn(endDate.plusDays(1), 6);
+    return navigation.rangeAt(navigation.indexOf(endDate));
+  }
+
+  /**
+   * Gets the index of the 6-month range containing the given date, in the sequence of ranges
+   * anchored on anchorDate.
+   *
+   * <p>Ranges are numbered by the proleptic month (year * 12 + month - 1) they start in, divided
+   * by 6, so indexes are dense and ordered and can be used as array offsets and sort keys. The
+   * lookup is plain arithmetic and allocates nothing.
+   *
+   * @param date The date to locate.
+   * @param anchorDate The start date of any one range in the sequence.
+   * @return The index of the range containing date.
+   */
+  public static long periodIndexOf(LocalDate date, LocalDate anchorDate) {
+    return MonthStepNavigation.startingOn(anchorDate, 6).indexOf(date);
+  }
+
+  /**
+   * Gets the 6-month range with the given index, as numbered by {@link #periodIndexOf(LocalDate,
+   * LocalDate)}.
+   *
+   * @param index The range index.
+   * @param anchorDate The start date of any one range in the sequence.
+   * @return A new 6-month DateRange for that index.
+   */
+  public static DateRange rangeAt(long index, LocalDate anchorDate) {
+    return MonthStepNavigation.startingOn(anchorDate, 6).rangeAt(index);
   }
 
-  static DateRange prior(DateRange dr) {
-    LocalDate start = subtractMonths(dr.getStartDate(), 6);
-    LocalDate end = subtractMonths(dr.getEndDate(), 6);
-    return DateRange.ofWithPriorNext(
-        start, end, SemiAnnualDateRange::prior, SemiAnnualDateRange::next);
+  /**
+   * Gets the index of the 6-month range containing the given date, in the sequence of ranges
+   * anchored on anchorDate and placed by the given leap-day policy. Indexes match those of {@link
+   * #periodIndexOf(LocalDate, LocalDate)}.
+   *
+   * @param date The date to locate.
+   * @param anchorDate The start date of any one range in the sequence.
+   * @param policy Where periods start when their start day is missing from the month.
+   * @return The index of the range containing date.
+   */
+  public static long periodIndexOf(LocalDate date, LocalDate anchorDate, LeapDayPolicy policy) {
+    return AnniversaryNavigation.of(anchorDate, 6, policy).indexOf(date);
   }
 
-  static DateRange next(DateRange dr) {
-    LocalDate start = addMonths(dr.getStartDate(), 6);
-    LocalDate end = addMonths(dr.getEndDate(), 6);
-    return DateRange.ofWithPriorNext(
-        start, end, SemiAnnualDateRange::prior, SemiAnnualDateRange::next);
+  /**
+   * Gets the 6-month range with the given index, as numbered by {@link #periodIndexOf(LocalDate,
+   * LocalDate, LeapDayPolicy)}.
+   *
+   * @param index The range index.
+   * @param anchorDate The start date of any one range in the sequence.
+   * @param policy Where periods start when their start day is missing from the month.
+   * @return A new 6-month DateRange for that index.
+   */
+  public static DateRange rangeAt(long index, LocalDate anchorDate, LeapDayPolicy policy) {
+    return AnniversaryNavigation.of(anchorDate, 6, policy).rangeAt(index);
+  }
+
+  /**
+   * Gets the 6-month range covering the same half of the year as the given one, the given number of
+   * years earlier. Each year is two periods of range's sequence, so the result is found by
+   * stepping back twice as many periods, and keeps range's start day and leap-day policy.
+   *
+   * @param range A 6-month range built by this class.
+   * @param years The number of years to go back; negative values go forward.
+   * @return The 6-month DateRange for the same half-year, years before range.
+   */
+  public static DateRange sameRangeYearsAgo(DateRange range, int years) {
+    if (AnniversaryNavigation.monthsPerPeriod(range) != 6) {
+      throw new IllegalArgumentException("semi-annual range required");
+    }
+    return range.shift(-2L * years);
   }
 
   private SemiAnnualDateRange() {}
@@ -2,8 +2,6 @@ package com.stano.daterange;
 
 import java.time.LocalDate;
 
-import static com.stano.datetime.DateUtils.lastDayOfMonth;
-
 /**
  * Static factory for building semi-monthly {@link DateRange}s (the 1st through the 15th of a month,
  * or the 16th through the last day of a month) that navigate {@link DateRange#prior()} and {@link
@@ -24,49 +22,56 @@ public final class SemiMonthlyDateRange {
    */
   public static DateRange withEndDate(LocalDate endDate) {
     LocalDate start = calculateStartDateFromEndDate(endDate);
-    return DateRange.ofWithPriorNext(
-        start, endDate, SemiMonthlyDateRange::prior, SemiMonthlyDateRange::next);
+    return DateRange.ofWithNavigation(start, endDate, SemiMonthlyNavigation.INSTANCE);
   }
 
-  static DateRange prior(DateRange dr) {
-    LocalDate end = dr.getStartDate().minusDays(1);
-    LocalDate start;
-    if (dr.getStartDate().getDayOfMonth() == 1) {
-      // current is 1..15 -> prior is 16..last of previous month
-      start = LocalDate.of(end.getYear(), end.getMonth(), FIFTEENTH + 1);
+  private static LocalDate calculateStartDateFromEndDate(LocalDate endDate) {
+    if (endDate.getDayOfMonth() == FIFTEENTH) {
+      return LocalDate.of(endDate.getYear(), endDate.getMonth(), 1);
     } else {
-      // current is 16..end -> prior is 1..15 of same month
-      start = LocalDate.of(end.getYear(), end.getMonth(), 1);
+      return LocalDate.of(endDate.getYear(), endDate.getMonth(), FIFTEENTH + 1);
     }
-    return DateRange.ofWithPriorNext(
-        start, end, SemiMonthlyDateRange::prior, SemiMonthlyDateRange::next);
   }
 
-  static DateRange next(DateRange dr) {
-    LocalDate start;
-    if (dr.getEndDate().getDayOfMonth() == FIFTEENTH) {
-      start = LocalDate.of(dr.getEndDate().getYear(), dr.getEndDate().getMonth(), FIFTEENTH + 1);
-    } else {
-      // next is 1..15 of next month
-      LocalDate end = dr.getEndDate();
-      int nextMonth = end.getMonthValue() % 12 + 1;
-      int year = (nextMonth == 1) ? end.getYear() + 1 : end.getYear();
-      start = LocalDate.of(year, nextMonth, 1);
-    }
-    LocalDate end =
-        (start.getDayOfMonth() == 1)
-            ? LocalDate.of(start.getYear(), start.getMonth(), FIFTEENTH)
-            : lastDayOfMonth(start);
-    return DateRange.ofWithPriorNext(
-        start, end, SemiMonthlyDateRange::prior, SemiMonthlyDateRange::next);
+  /**
+   * Gets the index of the semi-monthly period containing the given date.
+   *
+   * <p>Periods are numbered year * 24 + (month - 1) * 2 + half, where half is 0 for the 1st
+   * through the 15th and 1 for the rest of the month, so indexes are dense and ordered and can be
+   * used as array offsets and sort keys. The lookup is plain arithmetic and allocates nothing.
+   *
+   * @param date The date to locate.
+   * @return The index of the period containing date.
+   */
+  public static long periodIndexOf(LocalDate date) {
+    return SemiMonthlyNavigation.INSTANCE.indexOf(date);
   }
 
-  private static LocalDate calculateStartDateFromEndDate(LocalDate endDate) {
-    if (endDate.getDayOfMonth() == FIFTEENTH) {
-      return LocalDate.of(endDate.getYear(), endDate.getMonth(), 1);
-    } else {
-      return LocalDate.of(endDate.getYear(), endDate.getMonth(), FIFTEENTH + 1);
+  /**
+   * Counts the semi-monthly periods from the one containing fromDate to the one containing toDate,
+   * using period indexes alone.
+   *
+   * @param fromDate The first date.
+   * @param toDate The second date.
+   * @return The number of periods toDate's period is after fromDate's; negative if it is before,
+   *     and 0 if both dates fall in the same period.
+   */
+  public static long periodsBetween(LocalDate fromDate, LocalDate toDate) {
+    if (fromDate == null || toDate == null) {
+      throw new IllegalArgumentException("dates required");
     }
+    return periodIndexOf(toDate) - periodIndexOf(fromDate);
+  }
+
+  /**
+   * Gets the semi-monthly period with the given index, as numbered by {@link
+   * #periodIndexOf(LocalDate)}.
+   *
+   * @param index The period index.
+   * @return A new semi-monthly DateRange for that period.
+   */
+  public static DateRange rangeAt(long index) {
+    return SemiMonthlyNavigation.INSTANCE.rangeAt(index);
   }
 
   private SemiMonthlyDateRange() {}
@@ -0,0 +1,56 @@
+package com.stano.daterange;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * A {@link PeriodNavigation} for semi-monthly periods: the 1st through the 15th of a month, and the
+ * 16th through the last day of a month.
+ *
+ * <p>Periods are numbered year * 24 + (month - 1) * 2 + half, where half is 0 for the first half
+ * of the month and 1 for the second. Navigation, N-step jumps and containing-period lookups are
+ * integer arithmetic on that index; dates are only built for the resulting range's two ends.
+ */
+final class SemiMonthlyNavigation extends PeriodNavigation {
+  static final SemiMonthlyNavigation INSTANCE = new SemiMonthlyNavigation();
+
+  private static final int FIFTEENTH = 15;
+
+  @Override
+  long indexOf(LocalDate date) {
+    return date.getYear() * 24L
+        + (date.getMonthValue() - 1) * 2L
+        + (date.getDayOfMonth() > FIFTEENTH ? 1 : 0);
+  }
+
+  @Override
+  LocalDate startOf(long index) {
+    int year = Math.toIntExact(Math.floorDiv(index, 24));
+    int half = Math.floorMod(index, 24);
+    return LocalDate.of(year, half / 2 + 1, (half % 2 == 0) ? 1 : FIFTEENTH + 1);
+  }
+
+  @Override
+  long startEpochDayOf(long index) {
+    // Second halves start 15 days after the 1st of the same month.
+    long firstOfMonth = MonthStepNavigation.monthly(1).startEpochDayOf(Math.floorDiv(index, 2));
+    return firstOfMonth + Math.floorMod(index, 2) * FIFTEENTH;
+  }
+
+  @Override
+  DateRange rangeAt(long index) {
+    int year = Math.toIntExact(Math.floorDiv(index, 24));
+    int half = Math.floorMod(index, 24);
+    int month = half / 2 + 1;
+    if (half % 2 == 0) {
+      return DateRange.ofWithNavigation(
+          LocalDate.of(year, month, 1), LocalDate.of(year, month, FIFTEENTH), this);
+    }
+    int lastDay = Month.of(month).length(Year.isLeap(year));
+    return DateRange.ofWithNavigation(
+        LocalDate.of(year, month, FIFTEENTH + 1), LocalDate.of(year, month, lastDay), this);
+  }
+
+  private SemiMonthlyNavigation() {}
+}
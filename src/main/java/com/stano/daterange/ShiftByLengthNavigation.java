@@ -0,0 +1,43 @@
+package com.stano.daterange;
+
+import java.time.LocalDate;
+
+/**
+ * The default {@link DateRangeNavigation}, which shifts a range backward or forward by its own
+ * length in days.
+ */
+final class ShiftByLengthNavigation implements DateRangeNavigation {
+  static final ShiftByLengthNavigation INSTANCE = new ShiftByLengthNavigation();
+
+  @Override
+  public DateRange prior(DateRange range) {
+    return shiftDays(range, -range.getNumberOfDays());
+  }
+
+  @Override
+  public DateRange next(DateRange range) {
+    return shiftDays(range, range.getNumberOfDays());
+  }
+
+  @Override
+  public DateRange shift(DateRange range, long periods) {
+    return shiftDays(range, Math.multiplyExact(periods, range.getNumberOfDays()));
+  }
+
+  @Override
+  public DateRange containing(DateRange range, LocalDate date) {
+    int length = range.getNumberOfDays();
+    long offset = date.toEpochDay() - range.getStartDate().toEpochDay();
+    return shiftDays(range, Math.floorDiv(offset, length) * length);
+  }
+
+  private static DateRange shiftDays(DateRange range, long days) {
+    if (days == 0) {
+      return range;
+    }
+    return DateRange.ofWithNavigation(
+        range.getStartDate().plusDays(days), range.getEndDate().plusDays(days), INSTANCE);
+  }
+
+  private ShiftByLengthNavigation() {}
+}
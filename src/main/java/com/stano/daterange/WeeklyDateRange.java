@@ -48,5 +48,32 @@ public final class WeeklyDateRange {
     return DateRange.of(start, end);
   }
 
+  /**
+   * Gets the index of the week ending on endDay that contains the given date.
+   *
+   * <p>Weeks are numbered consecutively, so indexes are dense and ordered and can be used as array
+   * offsets and sort keys. Week 0 is the one starting between 1970-01-01 and 1970-01-07. The
+   * lookup is plain arithmetic and allocates nothing.
+   *
+   * @param date The date to locate.
+   * @param endDay The day of the week each range ends on.
+   * @return The index of the week containing date.
+   */
+  public static long periodIndexOf(LocalDate date, DayOfWeek endDay) {
+    return DayStepNavigation.weekly(endDay).indexOf(date);
+  }
+
+  /**
+   * Gets the week ending on endDay with the given index, as numbered by {@link
+   * #periodIndexOf(LocalDate, DayOfWeek)}.
+   *
+   * @param index The week index.
+   * @param endDay The day of the week each range ends on.
+   * @return A new 7-day DateRange for that week.
+   */
+  public static DateRange rangeAt(long index, DayOfWeek endDay) {
+    return DayStepNavigation.weekly(endDay).rangeAt(index);
+  }
+
   private WeeklyDateRange() {}
 }
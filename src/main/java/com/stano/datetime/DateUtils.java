@@ -10,6 +10,9 @@ import java.time.YearMonth;
  * <p>This class is not instantiable.
  */
 public final class DateUtils {
+  private static final long DAYS_PER_ERA = 146097; // days in a 400-year Gregorian cycle
+  private static final long DAYS_0000_TO_1970 = 719468; // 0000-03-01 to 1970-01-01
+
   private DateUtils() {}
 
   /**
@@ -92,4 +95,48 @@ public final class DateUtils {
     }
     return offset;
   }
+
+  /**
+   * Gets the ISO day-of-week value (1 for Monday through 7 for Sunday) of the given epoch day,
+   * without creating a {@link LocalDate}.
+   *
+   * @param epochDay The epoch day, as returned by {@link LocalDate#toEpochDay()}.
+   * @return The day-of-week value, from 1 (Monday) to 7 (Sunday).
+   */
+  public static int dayOfWeekValue(long epochDay) {
+    return Math.floorMod(epochDay + 3, 7) + 1; // 1970-01-01 is a Thursday
+  }
+
+  /**
+   * Gets the day of the month (1-31) of the given epoch day, without creating a {@link LocalDate}.
+   *
+   * @param epochDay The epoch day, as returned by {@link LocalDate#toEpochDay()}.
+   * @return The day of the month.
+   */
+  public static int dayOfMonth(long epochDay) {
+    return (int) (monthAndDay(epochDay) & 31);
+  }
+
+  /**
+   * Gets the proleptic month (year * 12 + month - 1) and day of month of the given epoch day,
+   * without creating a {@link LocalDate}.
+   *
+   * @param epochDay The epoch day, as returned by {@link LocalDate#toEpochDay()}.
+   * @return The proleptic month and day of month, packed as prolepticMonth << 5 | dayOfMonth.
+   */
+  public static long monthAndDay(long epochDay) {
+    // Civil-from-days over 400-year eras, with years starting on March 1st so that the leap day
+    // falls at the end of the year.
+    long z = epochDay + DAYS_0000_TO_1970;
+    long era = Math.floorDiv(z, DAYS_PER_ERA);
+    long dayOfEra = z - era * DAYS_PER_ERA;
+    long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    long monthIndex = (5 * dayOfYear + 2) / 153; // 0 is March
+    long day = dayOfYear - (153 * monthIndex + 2) / 5 + 1;
+    // Months 10 and 11 (January, February) belong to the next calendar year; in proleptic months
+    // that is simply monthIndex + 2 counted from March.
+    long prolepticMonth = (yearOfEra + era * 400) * 12 + monthIndex + 2;
+    return (prolepticMonth << 5) | day;
+  }
 }
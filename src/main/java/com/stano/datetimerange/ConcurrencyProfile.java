@@ -0,0 +1,273 @@
+package com.stano.datetimerange;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * How many of a collection of {@link DateTimeRange}s (sessions, shifts, jobs, ...) are in progress
+ * at each moment, held as a step function over epoch seconds.
+ *
+ * <p>The profile is a pair of arrays: {@link #times()} holds the epoch seconds (as in {@link
+ * DateTimeRange#startEpochSecond()}) at which the concurrency changes, and {@link #counts()} the
+ * concurrency from each of those seconds until the next. Concurrency is 0 before the first time
+ * and from the last time on. It is built by sorting the ranges' start and end seconds with a
+ * primitive sort and sweeping them once, and looking up the concurrency at a date-time is a binary
+ * search.
+ *
+ * <p>Date-times are resolved to the second they fall in. When built with inclusive ends, a range
+ * is in progress from its start second through its end second, so ranges that share a boundary
+ * count as concurrent, as in {@link DateTimeRange#overlaps(DateTimeRange)}; with exclusive ends it
+ * stops just before its end second, as in {@link DateTimeRange#overlapsExclusive(DateTimeRange)}.
+ *
+ * <p>This class is immutable and thread-safe.
+ */
+public final class ConcurrencyProfile {
+  private final long[] times; // epoch seconds, ascending
+  private final int[] counts; // concurrency from times[i] until times[i + 1]; the last is 0
+  private final boolean exclusive;
+  private final int peak;
+
+  /**
+   * Creates a profile of the given ranges.
+   *
+   * @param ranges The ranges to profile.
+   * @param exclusive true to treat ranges as ending just before their end date-times.
+   * @return A new ConcurrencyProfile.
+   */
+  public static ConcurrencyProfile of(Collection<DateTimeRange> ranges, boolean exclusive) {
+    return builder(exclusive).addAll(ranges).build();
+  }
+
+  /**
+   * Creates a new builder that collects ranges and sweeps them once when the profile is built.
+   *
+   * @param exclusive true to treat ranges as ending just before their end date-times.
+   * @return A new Builder.
+   */
+  public static Builder builder(boolean exclusive) {
+    return new Builder(exclusive);
+  }
+
+  /**
+   * Gets the highest concurrency reached.
+   *
+   * @return The peak concurrency, or 0 for a profile of no ranges.
+   */
+  public int peak() {
+    return peak;
+  }
+
+  /**
+   * Gets the concurrency during the second a date-time falls in.
+   *
+   * @param dateTime The date-time to look up.
+   * @return The number of ranges in progress at dateTime.
+   */
+  public int concurrencyAt(LocalDateTime dateTime) {
+    return concurrencyAt(dateTime.toEpochSecond(ZoneOffset.UTC));
+  }
+
+  /**
+   * Gets the concurrency during the given epoch second.
+   *
+   * @param epochSecond The epoch second to look up.
+   * @return The number of ranges in progress during epochSecond.
+   */
+  public int concurrencyAt(long epochSecond) {
+    int low = 0;
+    int high = times.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (times[mid] <= epochSecond) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low == 0 ? 0 : counts[low - 1];
+  }
+
+  /**
+   * Gets how long the concurrency stays at each level, from the first range's start to the last
+   * range's end.
+   *
+   * @return A new array whose element i is the number of seconds during which exactly i ranges
+   *     are in progress, for i from 0 to {@link #peak()}.
+   */
+  public long[] histogram() {
+    long[] seconds = new long[peak + 1];
+    for (int i = 0; i < times.length - 1; i++) {
+      seconds[counts[i]] += times[i + 1] - times[i];
+    }
+    return seconds;
+  }
+
+  /**
+   * Gets the maximal intervals during which more than the given number of ranges are in
+   * progress.
+   *
+   * @param threshold The concurrency to exceed; must not be negative.
+   * @return A new list of the intervals, in chronological order. With inclusive ends each interval
+   *     runs from its first second through its last, so a single busy second is a zero-length
+   *     range; with exclusive ends each interval ends on the second the concurrency drops.
+   */
+  public List<DateTimeRange> intervalsExceeding(int threshold) {
+    if (threshold < 0) {
+      throw new IllegalArgumentException("threshold must not be negative");
+    }
+    List<DateTimeRange> intervals = new ArrayList<>();
+    int i = 0;
+    while (i < times.length) {
+      if (counts[i] <= threshold) {
+        i++;
+        continue;
+      }
+      int end = i + 1;
+      while (counts[end] > threshold) {
+        end++; // the last count is 0, so this stops at or before it
+      }
+      long last = exclusive ? times[end] : times[end] - 1;
+      intervals.add(DateTimeRange.of(toDateTime(times[i]), toDateTime(last)));
+      i = end;
+    }
+    return intervals;
+  }
+
+  /**
+   * Gets the epoch seconds at which the concurrency changes.
+   *
+   * @return A new array of the step times, in ascending order.
+   */
+  public long[] times() {
+    return times.clone();
+  }
+
+  /**
+   * Gets the concurrency from each step time until the next.
+   *
+   * @return A new array, parallel to {@link #times()}; its last element is 0.
+   */
+  public int[] counts() {
+    return counts.clone();
+  }
+
+  private static LocalDateTime toDateTime(long epochSecond) {
+    return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+  }
+
+  private ConcurrencyProfile(long[] times, int[] counts, boolean exclusive) {
+    this.times = times;
+    this.counts = counts;
+    this.exclusive = exclusive;
+    int max = 0;
+    for (int count : counts) {
+      max = Math.max(max, count);
+    }
+    this.peak = max;
+  }
+
+  /**
+   * Collects ranges for a {@link ConcurrencyProfile}, as start and end epoch seconds. Ranges may
+   * be added in any order; their seconds are sorted once, when {@link #build()} is called.
+   *
+   * <p>This class is not thread-safe.
+   */
+  public static final class Builder {
+    private final boolean exclusive;
+    private long[] starts = new long[16];
+    private long[] ends = new long[16]; // first second each range is no longer in progress
+    private int size;
+
+    /**
+     * Adds a range to the profile being built.
+     *
+     * @param dateTimeRange The range to add; must not end before it starts.
+     * @return This builder.
+     */
+    public Builder add(DateTimeRange dateTimeRange) {
+      if (dateTimeRange == null) {
+        throw new IllegalArgumentException("range required");
+      }
+      if (DateTimeRange.compare(
+              dateTimeRange.endEpochSecond(),
+              dateTimeRange.endNano(),
+              dateTimeRange.startEpochSecond(),
+              dateTimeRange.startNano())
+          < 0) {
+        throw new IllegalArgumentException("end before start");
+      }
+      if (size == starts.length) {
+        starts = Arrays.copyOf(starts, size * 2);
+        ends = Arrays.copyOf(ends, size * 2);
+      }
+      starts[size] = dateTimeRange.startEpochSecond();
+      ends[size] = exclusive ? dateTimeRange.endEpochSecond() : dateTimeRange.endEpochSecond() + 1;
+      size++;
+      return this;
+    }
+
+    /**
+     * Adds every range in the given collection to the profile being built.
+     *
+     * @param dateTimeRanges The ranges to add.
+     * @return This builder.
+     */
+    public Builder addAll(Collection<DateTimeRange> dateTimeRanges) {
+      if (size + dateTimeRanges.size() > starts.length) {
+        int capacity = Math.max(size + dateTimeRanges.size(), size * 2);
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+      }
+      for (DateTimeRange dateTimeRange : dateTimeRanges) {
+        add(dateTimeRange);
+      }
+      return this;
+    }
+
+    /**
+     * Builds the profile, sorting the collected start and end seconds and sweeping them once.
+     *
+     * @return A new ConcurrencyProfile.
+     */
+    public ConcurrencyProfile build() {
+      long[] sortedStarts = Arrays.copyOf(starts, size);
+      long[] sortedEnds = Arrays.copyOf(ends, size);
+      Arrays.sort(sortedStarts);
+      Arrays.sort(sortedEnds);
+
+      long[] times = new long[2 * size];
+      int[] counts = new int[2 * size];
+      int steps = 0;
+      int count = 0;
+      int i = 0;
+      int j = 0;
+      while (j < size) {
+        // Apply every start and end at the next second where anything changes.
+        long time = i < size ? Math.min(sortedStarts[i], sortedEnds[j]) : sortedEnds[j];
+        while (i < size && sortedStarts[i] == time) {
+          count++;
+          i++;
+        }
+        while (j < size && sortedEnds[j] == time) {
+          count--;
+          j++;
+        }
+        if (steps == 0 ? count != 0 : count != counts[steps - 1]) {
+          times[steps] = time;
+          counts[steps] = count;
+          steps++;
+        }
+      }
+      return new ConcurrencyProfile(
+          Arrays.copyOf(times, steps), Arrays.copyOf(counts, steps), exclusive);
+    }
+
+    private Builder(boolean exclusive) {
+      this.exclusive = exclusive;
+    }
+  }
+}
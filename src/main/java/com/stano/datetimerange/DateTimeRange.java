@@ -8,15 +8,30 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * An inclusive range of date-times, from a start date-time through an end date-time.
  *
+ * <p>Alongside its two date-times, a range keeps each end as seconds since 1970-01-01T00:00 on the
+ * local time-line plus a nanosecond-of-second, so overlap, containment and ordering checks are
+ * primitive comparisons; the nanoseconds are only consulted when the seconds are equal.
+ *
  * <p>This class is immutable and thread-safe.
  */
 public final class DateTimeRange implements Comparable<DateTimeRange>, Serializable {
+  // The UID computed for the class before it cached its ends, so older streams still load.
+  private static final long serialVersionUID = -3454638672195035646L;
+
   private final LocalDateTime startDateTime;
   private final LocalDateTime endDateTime;
+  // Cached primitive form of the two ends; rebuilt on deserialization by readResolve.
+  private final transient long startSecond;
+  private final transient int startNano;
+  private final transient long endSecond;
+  private final transient int endNano;
 
   /**
    * Creates a new DateTimeRange spanning the given start and end date-times.
@@ -79,13 +94,34 @@ public final class DateTimeRange implements Comparable<DateTimeRange>, Serializa
     return endDateTime;
   }
 
+  /**
+   * Gets the start date-time of the range as an epoch second on the local time-line.
+   *
+   * @return The start date-time's seconds since 1970-01-01T00:00, ignoring any fraction of a
+   *     second, as returned by {@link LocalDateTime#toEpochSecond(ZoneOffset)} with {@link
+   *     ZoneOffset#UTC}.
+   */
+  public long startEpochSecond() {
+    return startSecond;
+  }
+
+  /**
+   * Gets the end date-time of the range as an epoch second on the local time-line.
+   *
+   * @return The end date-time's seconds since 1970-01-01T00:00, ignoring any fraction of a second,
+   *     as returned by {@link LocalDateTime#toEpochSecond(ZoneOffset)} with {@link ZoneOffset#UTC}.
+   */
+  public long endEpochSecond() {
+    return endSecond;
+  }
+
   /**
    * Gets the duration of the range.
    *
    * @return The Duration between the start and end date-times.
    */
   public Duration getDuration() {
-    return Duration.between(startDateTime, endDateTime);
+    return Duration.ofSeconds(endSecond - startSecond, endNano - startNano);
   }
 
   /**
@@ -99,8 +135,8 @@ public final class DateTimeRange implements Comparable<DateTimeRange>, Serializa
       return false;
     }
 
-    return startDateTime.compareTo(dateTimeRange.getEndDateTime()) <= 0
-        && endDateTime.compareTo(dateTimeRange.getStartDateTime()) >= 0;
+    return compare(startSecond, startNano, dateTimeRange.endSecond, dateTimeRange.endNano) <= 0
+        && compare(endSecond, endNano, dateTimeRange.startSecond, dateTimeRange.startNano) >= 0;
   }
 
   /**
@@ -115,8 +151,8 @@ public final class DateTimeRange implements Comparable<DateTimeRange>, Serializa
       return false;
     }
 
-    return startDateTime.isBefore(dateTimeRange.getEndDateTime())
-        && endDateTime.isAfter(dateTimeRange.getStartDateTime());
+    return compare(startSecond, startNano, dateTimeRange.endSecond, dateTimeRange.endNano) < 0
+        && compare(endSecond, endNano, dateTimeRange.startSecond, dateTimeRange.startNano) > 0;
   }
 
   /**
@@ -126,8 +162,8 @@ public final class DateTimeRange implements Comparable<DateTimeRange>, Serializa
    * @return true if dateTimeRange's start and end date-times both fall within this range.
    */
   public boolean overlapsCompletely(DateTimeRange dateTimeRange) {
-    return dateTimeRange.getStartDateTime().compareTo(startDateTime) >= 0
-        && dateTimeRange.getEndDateTime().compareTo(endDateTime) <= 0;
+    return compare(dateTimeRange.startSecond, dateTimeRange.startNano, startSecond, startNano) >= 0
+        && compare(dateTimeRange.endSecond, dateTimeRange.endNano, endSecond, endNano) <= 0;
   }
 
   /**
@@ -138,9 +174,80 @@ public final class DateTimeRange implements Comparable<DateTimeRange>, Serializa
    *     otherRange is null.
    */
   public Duration overlapDuration(DateTimeRange otherRange) {
-    DateTimeRange overlappingRange = overlapRange(otherRange);
+    if (!overlaps(otherRange)) {
+      return Duration.ZERO;
+    }
+
+    return Duration.ofSeconds(overlapSecondsOf(otherRange), overlapNanosOf(otherRange));
+  }
+
+  /**
+   * Calculates the whole number of seconds for which another range overlaps this range, without
+   * building the overlapping range or a Duration.
+   *
+   * @param otherRange The DateTimeRange to check.
+   * @return The length of the overlap in whole seconds, with any fraction of a second dropped, or
+   *     0 if the ranges don't overlap or otherRange is null.
+   */
+  public long overlapSeconds(DateTimeRange otherRange) {
+    if (!overlaps(otherRange)) {
+      return 0;
+    }
+
+    return overlapNanosOf(otherRange) < 0
+        ? overlapSecondsOf(otherRange) - 1
+        : overlapSecondsOf(otherRange);
+  }
+
+  /**
+   * Calculates the whole number of minutes for which another range overlaps this range, without
+   * building the overlapping range or a Duration.
+   *
+   * @param otherRange The DateTimeRange to check.
+   * @return The length of the overlap in whole minutes, with any part of a minute dropped, or 0 if
+   *     the ranges don't overlap or otherRange is null.
+   */
+  public long overlapMinutes(DateTimeRange otherRange) {
+    return overlapSeconds(otherRange) / DateTimeConstants.SECONDS_PER_MINUTE;
+  }
+
+  /**
+   * Calculates the total overlap between two sequences of ranges, such as shifts and pay windows,
+   * in a single merge over both rather than by comparing every pair.
+   *
+   * <p>Each list must be sorted by start date-time, and no two ranges of the same list may overlap
+   * by more than a shared boundary date-time, so the result equals the sum of {@link
+   * #overlapDuration(DateTimeRange)} over every pair of ranges from the two lists.
+   *
+   * @param sortedA The first sequence of ranges.
+   * @param sortedB The second sequence of ranges.
+   * @return The total overlap, or a zero duration if none of the ranges overlap.
+   */
+  public static Duration totalOverlap(List<DateTimeRange> sortedA, List<DateTimeRange> sortedB) {
+    Iterator<DateTimeRange> a = sortedA.iterator();
+    Iterator<DateTimeRange> b = sortedB.iterator();
+    DateTimeRange rangeA = nextInSequence(a, null);
+    DateTimeRange rangeB = nextInSequence(b, null);
+    long seconds = 0;
+    long nanos = 0;
+
+    while (rangeA != null && rangeB != null) {
+      if (rangeA.overlaps(rangeB)) {
+        seconds += rangeA.overlapSecondsOf(rangeB);
+        nanos += rangeA.overlapNanosOf(rangeB);
+      }
+
+      // The range ending first cannot overlap anything later in the other sequence.
+      int endOrder = compare(rangeA.endSecond, rangeA.endNano, rangeB.endSecond, rangeB.endNano);
+      if (endOrder <= 0) {
+        rangeA = nextInSequence(a, rangeA);
+      }
+      if (endOrder >= 0) {
+        rangeB = nextInSequence(b, rangeB);
+      }
+    }
 
-    return overlappingRange == null ? Duration.ofMillis(0) : overlappingRange.getDuration();
+    return Duration.ofSeconds(seconds, nanos);
   }
 
   /**
@@ -170,7 +277,10 @@ public final class DateTimeRange implements Comparable<DateTimeRange>, Serializa
    */
   public boolean containsDateTime(LocalDateTime dateTime) {
     if (dateTime != null) {
-      return dateTime.compareTo(startDateTime) >= 0 && dateTime.compareTo(endDateTime) <= 0;
+      long second = dateTime.toEpochSecond(ZoneOffset.UTC);
+      int nano = dateTime.getNano();
+      return compare(second, nano, startSecond, startNano) >= 0
+          && compare(second, nano, endSecond, endNano) <= 0;
     }
 
     return false;
@@ -185,7 +295,10 @@ public final class DateTimeRange implements Comparable<DateTimeRange>, Serializa
    */
   public boolean containsDateTimeExclusive(LocalDateTime dateTime) {
     if (dateTime != null) {
-      return dateTime.compareTo(startDateTime) > 0 && dateTime.compareTo(endDateTime) < 0;
+      long second = dateTime.toEpochSecond(ZoneOffset.UTC);
+      int nano = dateTime.getNano();
+      return compare(second, nano, startSecond, startNano) > 0
+          && compare(second, nano, endSecond, endNano) < 0;
     }
 
     return false;
@@ -201,7 +314,10 @@ public final class DateTimeRange implements Comparable<DateTimeRange>, Serializa
    */
   public boolean containsDateTimeExclusiveOfEndDateTime(LocalDateTime dateTime) {
     if (dateTime != null) {
-      return dateTime.compareTo(startDateTime) >= 0 && dateTime.compareTo(endDateTime) < 0;
+      long second = dateTime.toEpochSecond(ZoneOffset.UTC);
+      int nano = dateTime.getNano();
+      return compare(second, nano, startSecond, startNano) >= 0
+          && compare(second, nano, endSecond, endNano) < 0;
     }
 
     return false;
@@ -226,10 +342,11 @@ public final class DateTimeRange implements Comparable<DateTimeRange>, Serializa
       return -1;
     }
 
-    int result = startDateTime.compareTo(dateTimeRange.getStartDateTime());
+    int result =
+        compare(startSecond, startNano, dateTimeRange.startSecond, dateTimeRange.startNano);
 
     if (result == 0) {
-      result = endDateTime.compareTo(dateTimeRange.getEndDateTime());
+      result = compare(endSecond, endNano, dateTimeRange.endSecond, dateTimeRange.endNano);
     }
 
     return result;
@@ -245,11 +362,10 @@ public final class DateTimeRange implements Comparable<DateTimeRange>, Serializa
       return false;
     }
 
-    if (!endDateTime.equals(that.getEndDateTime())) {
-      return false;
-    }
-
-    return startDateTime.equals(that.getStartDateTime());
+    return startSecond == that.startSecond
+        && endSecond == that.endSecond
+        && startNano == that.startNano
+        && endNano == that.endNano;
   }
 
   @Override
@@ -259,8 +375,69 @@ public final class DateTimeRange implements Comparable<DateTimeRange>, Serializa
     return result;
   }
 
+  /**
+   * Gets the seconds part of the overlap with a range known to overlap this one; the nanoseconds
+   * part from {@link #overlapNanosOf(DateTimeRange)} may be negative.
+   */
+  private long overlapSecondsOf(DateTimeRange otherRange) {
+    long fromSecond = Math.max(startSecond, otherRange.startSecond);
+    long toSecond = Math.min(endSecond, otherRange.endSecond);
+    return toSecond - fromSecond;
+  }
+
+  private int overlapNanosOf(DateTimeRange otherRange) {
+    boolean laterStartIsThis =
+        compare(startSecond, startNano, otherRange.startSecond, otherRange.startNano) >= 0;
+    boolean earlierEndIsThis =
+        compare(endSecond, endNano, otherRange.endSecond, otherRange.endNano) <= 0;
+    int fromNano = laterStartIsThis ? startNano : otherRange.startNano;
+    int toNano = earlierEndIsThis ? endNano : otherRange.endNano;
+    return toNano - fromNano;
+  }
+
+  private static DateTimeRange nextInSequence(
+      Iterator<DateTimeRange> ranges, DateTimeRange previous) {
+    if (!ranges.hasNext()) {
+      return null;
+    }
+
+    DateTimeRange range = ranges.next();
+    if (previous != null
+        && compare(range.startSecond, range.startNano, previous.endSecond, previous.endNano) < 0) {
+      throw new IllegalArgumentException("ranges must be sorted and non-overlapping");
+    }
+
+    return range;
+  }
+
+  /**
+   * Compares two instants given as epoch seconds and nanoseconds-of-second.
+   *
+   * @return A negative number, zero or a positive number as the first instant is before, equal to
+   *     or after the second.
+   */
+  static int compare(long second1, int nano1, long second2, int nano2) {
+    return second1 != second2 ? Long.compare(second1, second2) : Integer.compare(nano1, nano2);
+  }
+
+  int startNano() {
+    return startNano;
+  }
+
+  int endNano() {
+    return endNano;
+  }
+
+  private Object readResolve() {
+    return new DateTimeRange(startDateTime, endDateTime);
+  }
+
   private DateTimeRange(LocalDateTime startDateTime, LocalDateTime endDateTime) {
     this.startDateTime = startDateTime;
     this.endDateTime = endDateTime;
+    this.startSecond = startDateTime.toEpochSecond(ZoneOffset.UTC);
+    this.startNano = startDateTime.getNano();
+    this.endSecond = endDateTime.toEpochSecond(ZoneOffset.UTC);
+    this.endNano = endDateTime.getNano();
   }
 }
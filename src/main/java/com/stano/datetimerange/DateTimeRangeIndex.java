@@ -0,0 +1,388 @@
+package com.stano.datetimerange;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A mutable index mapping possibly-overlapping {@link DateTimeRange} keys to payloads, answering
+ * "which entries contain this date-time" and "which entries overlap this range" queries while
+ * entries are added and removed.
+ *
+ * <p>Entries are held in a height-balanced (AVL) binary search tree ordered by start date-time, in
+ * which every node is augmented with the latest end date-time in its subtree. Nodes keep their
+ * ends as epoch seconds and nanoseconds-of-second, as in {@link DateTimeRange#startEpochSecond()},
+ * so a query compares primitives and only descends into subtrees that can still hold a match.
+ * Inserts and removes run in O(log n) and {@link #anyOverlap(DateTimeRange, boolean)} in
+ * O(log n). The other queries visit O(log n) nodes per match, so they run in O(min(n, k log n))
+ * for k matches.
+ *
+ * <p>Queries take an exclusive flag: when false, ranges that only share a boundary date-time
+ * match, as in {@link DateTimeRange#overlaps(DateTimeRange)}; when true they do not, as in {@link
+ * DateTimeRange#overlapsExclusive(DateTimeRange)}. Matches are reported in order of their keys'
+ * start date-times.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @param <T> The payload type.
+ */
+public final class DateTimeRangeIndex<T> {
+  private Node<T> root;
+  private int size;
+
+  /**
+   * Creates a new, empty index.
+   *
+   * @param <T> The payload type.
+   * @return A new DateTimeRangeIndex.
+   */
+  public static <T> DateTimeRangeIndex<T> create() {
+    return new DateTimeRangeIndex<>();
+  }
+
+  /**
+   * Gets the number of entries in the index.
+   *
+   * @return The number of entries.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks if the index holds no entries.
+   *
+   * @return true if the index is empty.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Adds an entry to the index. The same range may be added any number of times.
+   *
+   * @param range The entry's range; must not end before it starts.
+   * @param payload The entry's payload.
+   */
+  public void insert(DateTimeRange range, T payload) {
+    if (range == null) {
+      throw new IllegalArgumentException("range required");
+    }
+    if (DateTimeRange.compare(
+            range.endEpochSecond(), range.endNano(), range.startEpochSecond(), range.startNano())
+        < 0) {
+      throw new IllegalArgumentException("end before start");
+    }
+    root = insert(root, new Node<>(range, payload));
+    size++;
+  }
+
+  /**
+   * Removes one entry with the given range and an equal payload.
+   *
+   * @param range The entry's range.
+   * @param payload The entry's payload, compared with {@link Objects#equals(Object, Object)}.
+   * @return true if an entry was removed.
+   */
+  public boolean remove(DateTimeRange range, T payload) {
+    if (range == null) {
+      return false;
+    }
+    Removal<T> removal = new Removal<>(range, payload);
+    root = remove(root, removal);
+    if (removal.removed) {
+      size--;
+    }
+    return removal.removed;
+  }
+
+  /** Removes every entry. */
+  public void clear() {
+    root = null;
+    size = 0;
+  }
+
+  /**
+   * Gets the payloads of every entry whose range contains the given date-time, inclusive of the
+   * ranges' ends.
+   *
+   * @param dateTime The date-time to look up.
+   * @return A new list of the matching payloads, in order of their ranges' start date-times.
+   */
+  public List<T> containing(LocalDateTime dateTime) {
+    List<T> matches = new ArrayList<>();
+    long second = dateTime.toEpochSecond(ZoneOffset.UTC);
+    int nano = dateTime.getNano();
+    visit(root, second, nano, second, nano, false, matches::add);
+    return matches;
+  }
+
+  /**
+   * Gets the payloads of every entry whose range overlaps the given range.
+   *
+   * @param range The range to look up.
+   * @param exclusive true to leave out entries that only share a boundary date-time with range.
+   * @return A new list of the matching payloads, in order of their ranges' start date-times.
+   */
+  public List<T> overlapping(DateTimeRange range, boolean exclusive) {
+    List<T> matches = new ArrayList<>();
+    forEachOverlapping(range, exclusive, matches::add);
+    return matches;
+  }
+
+  /**
+   * Passes the payload of every entry whose range overlaps the given range to visitor, without
+   * building a result list.
+   *
+   * @param range The range to look up.
+   * @param exclusive true to leave out entries that only share a boundary date-time with range.
+   * @param visitor The action to perform on each matching payload.
+   */
+  public void forEachOverlapping(
+      DateTimeRange range, boolean exclusive, Consumer<? super T> visitor) {
+    visit(
+        root,
+        range.startEpochSecond(),
+        range.startNano(),
+        range.endEpochSecond(),
+        range.endNano(),
+        exclusive,
+        visitor);
+  }
+
+  /**
+   * Checks if any entry's range overlaps the given range, following a single path down the tree.
+   *
+   * @param range The range to check.
+   * @param exclusive true to ignore entries that only share a boundary date-time with range.
+   * @return true if at least one entry overlaps range.
+   */
+  public boolean anyOverlap(DateTimeRange range, boolean exclusive) {
+    long fromSecond = range.startEpochSecond();
+    int fromNano = range.startNano();
+    long toSecond = range.endEpochSecond();
+    int toNano = range.endNano();
+    Node<T> node = root;
+    while (node != null) {
+      if (overlaps(node, fromSecond, fromNano, toSecond, toNano, exclusive)) {
+        return true;
+      }
+      // If the left subtree reaches far enough but holds no match, its latest-ending entry starts
+      // after the range, and so does everything to the right.
+      Node<T> left = node.left;
+      if (left != null && reaches(left, fromSecond, fromNano, exclusive)) {
+        node = left;
+      } else {
+        node = node.right;
+      }
+    }
+    return false;
+  }
+
+  private static <T> void visit(
+      Node<T> node,
+      long fromSecond,
+      int fromNano,
+      long toSecond,
+      int toNano,
+      boolean exclusive,
+      Consumer<? super T> visitor) {
+    while (node != null) {
+      if (!reaches(node, fromSecond, fromNano, exclusive)) {
+        return; // nothing in this subtree ends late enough
+      }
+      visit(node.left, fromSecond, fromNano, toSecond, toNano, exclusive, visitor);
+      int startOrder = DateTimeRange.compare(node.startSecond, node.startNano, toSecond, toNano);
+      if (startOrder > 0 || (exclusive && startOrder == 0)) {
+        return; // this entry and everything after it starts too late
+      }
+      if (overlaps(node, fromSecond, fromNano, toSecond, toNano, exclusive)) {
+        visitor.accept(node.payload);
+      }
+      node = node.right;
+    }
+  }
+
+  /** Checks if some entry in the subtree ends late enough to overlap a range starting at from. */
+  private static boolean reaches(Node<?> node, long fromSecond, int fromNano, boolean exclusive) {
+    int order = DateTimeRange.compare(node.maxEndSecond, node.maxEndNano, fromSecond, fromNano);
+    return exclusive ? order > 0 : order >= 0;
+  }
+
+  private static boolean overlaps(
+      Node<?> node, long fromSecond, int fromNano, long toSecond, int toNano, boolean exclusive) {
+    int startOrder = DateTimeRange.compare(node.startSecond, node.startNano, toSecond, toNano);
+    int endOrder = DateTimeRange.compare(node.endSecond, node.endNano, fromSecond, fromNano);
+    return exclusive ? startOrder < 0 && endOrder > 0 : startOrder <= 0 && endOrder >= 0;
+  }
+
+  private static <T> Node<T> insert(Node<T> node, Node<T> added) {
+    if (node == null) {
+      return added;
+    }
+    if (compareKeys(added, node) < 0) {
+      node.left = insert(node.left, added);
+    } else {
+      node.right = insert(node.right, added); // equal keys go right
+    }
+    return rebalance(node);
+  }
+
+  private static <T> Node<T> remove(Node<T> node, Removal<T> removal) {
+    if (node == null) {
+      return null;
+    }
+    int order = removal.compareTo(node);
+    if (order < 0) {
+      node.left = remove(node.left, removal);
+    } else if (order > 0) {
+      node.right = remove(node.right, removal);
+    } else if (Objects.equals(node.payload, removal.payload)) {
+      removal.removed = true;
+      return unlink(node);
+    } else {
+      // Entries with equal keys may sit on either side after rotations.
+      node.left = remove(node.left, removal);
+      if (!removal.removed) {
+        node.right = remove(node.right, removal);
+      }
+    }
+    return rebalance(node);
+  }
+
+  private static <T> Node<T> unlink(Node<T> node) {
+    if (node.left == null) {
+      return node.right;
+    }
+    if (node.right == null) {
+      return node.left;
+    }
+    Node<T> successor = node.right;
+    while (successor.left != null) {
+      successor = successor.left;
+    }
+    successor.right = removeFirst(node.right);
+    successor.left = node.left;
+    return rebalance(successor);
+  }
+
+  private static <T> Node<T> removeFirst(Node<T> node) {
+    if (node.left == null) {
+      return node.right;
+    }
+    node.left = removeFirst(node.left);
+    return rebalance(node);
+  }
+
+  private static <T> Node<T> rebalance(Node<T> node) {
+    update(node);
+    int balance = height(node.left) - height(node.right);
+    if (balance > 1) {
+      if (height(node.left.left) < height(node.left.right)) {
+        node.left = rotateLeft(node.left);
+      }
+      return rotateRight(node);
+    }
+    if (balance < -1) {
+      if (height(node.right.right) < height(node.right.left)) {
+        node.right = rotateRight(node.right);
+      }
+      return rotateLeft(node);
+    }
+    return node;
+  }
+
+  private static <T> Node<T> rotateLeft(Node<T> node) {
+    Node<T> pivot = node.right;
+    node.right = pivot.left;
+    pivot.left = node;
+    update(node);
+    update(pivot);
+    return pivot;
+  }
+
+  private static <T> Node<T> rotateRight(Node<T> node) {
+    Node<T> pivot = node.left;
+    node.left = pivot.right;
+    pivot.right = node;
+    update(node);
+    update(pivot);
+    return pivot;
+  }
+
+  /** Recomputes a node's height and latest end from its children. */
+  private static void update(Node<?> node) {
+    node.height = 1 + Math.max(height(node.left), height(node.right));
+    node.maxEndSecond = node.endSecond;
+    node.maxEndNano = node.endNano;
+    takeLaterEnd(node, node.left);
+    takeLaterEnd(node, node.right);
+  }
+
+  private static void takeLaterEnd(Node<?> node, Node<?> child) {
+    if (child != null
+        && DateTimeRange.compare(
+                child.maxEndSecond, child.maxEndNano, node.maxEndSecond, node.maxEndNano)
+            > 0) {
+      node.maxEndSecond = child.maxEndSecond;
+      node.maxEndNano = child.maxEndNano;
+    }
+  }
+
+  private static int height(Node<?> node) {
+    return node == null ? 0 : node.height;
+  }
+
+  /** Orders entries by start date-time, then end date-time. */
+  private static int compareKeys(Node<?> a, Node<?> b) {
+    int order = DateTimeRange.compare(a.startSecond, a.startNano, b.startSecond, b.startNano);
+    if (order == 0) {
+      order = DateTimeRange.compare(a.endSecond, a.endNano, b.endSecond, b.endNano);
+    }
+    return order;
+  }
+
+  private DateTimeRangeIndex() {}
+
+  private static final class Node<T> {
+    private final long startSecond;
+    private final int startNano;
+    private final long endSecond;
+    private final int endNano;
+    private final T payload;
+    private long maxEndSecond; // latest end in this subtree
+    private int maxEndNano;
+    private int height = 1;
+    private Node<T> left;
+    private Node<T> right;
+
+    Node(DateTimeRange range, T payload) {
+      this.startSecond = range.startEpochSecond();
+      this.startNano = range.startNano();
+      this.endSecond = range.endEpochSecond();
+      this.endNano = range.endNano();
+      this.payload = payload;
+      this.maxEndSecond = endSecond;
+      this.maxEndNano = endNano;
+    }
+  }
+
+  /** The entry being looked for by a removal, and whether it has been found. */
+  private static final class Removal<T> {
+    private final Node<T> key;
+    private final T payload;
+    private boolean removed;
+
+    Removal(DateTimeRange range, T payload) {
+      this.key = new Node<>(range, payload);
+      this.payload = payload;
+    }
+
+    int compareTo(Node<T> node) {
+      return compareKeys(key, node);
+    }
+  }
+}
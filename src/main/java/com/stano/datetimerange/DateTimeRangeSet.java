@@ -0,0 +1,511 @@
+package com.stano.datetimerange;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable set of date-times, held as a sorted list of disjoint {@link DateTimeRange}s.
+ *
+ * <p>Ranges are inclusive of both ends, so ranges that overlap or share an end date-time (one ends
+ * when the next starts) are merged into a single range when the set is built. Each end is stored
+ * as an epoch second plus a nanosecond-of-second in primitive arrays, as in {@link
+ * DateTimeRange#startEpochSecond()}.
+ *
+ * <p>Set operations are single merges over the two sets' sorted ranges and run in O(n + m).
+ * {@link #intersect(DateTimeRangeSet)} keeps the instants where ranges only touch, matching {@link
+ * DateTimeRange#overlaps(DateTimeRange)}, while {@link #intersectExclusive(DateTimeRangeSet)}
+ * drops them, matching {@link DateTimeRange#overlapsExclusive(DateTimeRange)}. {@link
+ * #subtract(DateTimeRangeSet)} and {@link #complementWithin(DateTimeRange)} keep the end
+ * date-times of what remains, so "9:00-17:00 minus 12:00-13:00" is 9:00-12:00 and 13:00-17:00.
+ *
+ * <p>This class is immutable and thread-safe.
+ */
+public final class DateTimeRangeSet implements Iterable<DateTimeRange> {
+  private static final DateTimeRangeSet EMPTY =
+      new DateTimeRangeSet(new long[0], new int[0], new long[0], new int[0]);
+
+  // Range i runs from startSeconds[i]/startNanos[i] through endSeconds[i]/endNanos[i]; each range
+  // ends strictly before the next one starts.
+  private final long[] startSeconds;
+  private final int[] startNanos;
+  private final long[] endSeconds;
+  private final int[] endNanos;
+
+  /**
+   * Creates a new set holding the union of the given ranges.
+   *
+   * @param ranges The ranges to include.
+   * @return A new DateTimeRangeSet.
+   */
+  public static DateTimeRangeSet of(Collection<DateTimeRange> ranges) {
+    return builder().addAll(ranges).build();
+  }
+
+  /**
+   * Gets an empty set.
+   *
+   * @return The empty DateTimeRangeSet.
+   */
+  public static DateTimeRangeSet empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Creates a new builder that collects ranges and sorts them once when the set is built.
+   *
+   * @return A new Builder.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Gets the number of disjoint ranges in the set, after merging.
+   *
+   * @return The number of ranges.
+   */
+  public int size() {
+    return startSeconds.length;
+  }
+
+  /**
+   * Checks if the set holds no date-times.
+   *
+   * @return true if the set is empty.
+   */
+  public boolean isEmpty() {
+    return startSeconds.length == 0;
+  }
+
+  /**
+   * Checks if a date-time falls within any range in the set, inclusive of the ranges' ends.
+   *
+   * @param dateTime The date-time to check.
+   * @return true if the set contains dateTime.
+   */
+  public boolean containsDateTime(LocalDateTime dateTime) {
+    long second = dateTime.toEpochSecond(ZoneOffset.UTC);
+    int nano = dateTime.getNano();
+    int i = lastStartingBefore(second, nano, true);
+    return i >= 0 && compareEnd(i, second, nano) >= 0;
+  }
+
+  /**
+   * Checks if every date-time of a range falls within the set.
+   *
+   * @param dateTimeRange The DateTimeRange to check.
+   * @return true if a single range of the set contains dateTimeRange.
+   */
+  public boolean containsRange(DateTimeRange dateTimeRange) {
+    int i = lastStartingBefore(dateTimeRange.startEpochSecond(), dateTimeRange.startNano(), true);
+    return i >= 0
+        && compareEnd(i, dateTimeRange.endEpochSecond(), dateTimeRange.endNano()) >= 0;
+  }
+
+  /**
+   * Checks if a range shares at least one instant with the set, inclusive of shared boundary
+   * date-times, as {@link DateTimeRange#overlaps(DateTimeRange)} does.
+   *
+   * @param dateTimeRange The DateTimeRange to check.
+   * @return true if dateTimeRange overlaps or touches any range in the set.
+   */
+  public boolean overlapsAny(DateTimeRange dateTimeRange) {
+    int i = lastStartingBefore(dateTimeRange.endEpochSecond(), dateTimeRange.endNano(), true);
+    return i >= 0
+        && compareEnd(i, dateTimeRange.startEpochSecond(), dateTimeRange.startNano()) >= 0;
+  }
+
+  /**
+   * Checks if a range overlaps the set by more than a shared boundary date-time, as {@link
+   * DateTimeRange#overlapsExclusive(DateTimeRange)} does.
+   *
+   * @param dateTimeRange The DateTimeRange to check.
+   * @return true if dateTimeRange overlaps any range in the set by more than an endpoint.
+   */
+  public boolean overlapsAnyExclusive(DateTimeRange dateTimeRange) {
+    int i = lastStartingBefore(dateTimeRange.endEpochSecond(), dateTimeRange.endNano(), false);
+    return i >= 0
+        && compareEnd(i, dateTimeRange.startEpochSecond(), dateTimeRange.startNano()) > 0;
+  }
+
+  /**
+   * Gets the union of this set and another.
+   *
+   * @param other The set to combine with this one.
+   * @return A new DateTimeRangeSet holding every date-time in either set.
+   */
+  public DateTimeRangeSet union(DateTimeRangeSet other) {
+    Accumulator result = new Accumulator(size() + other.size());
+    int i = 0;
+    int j = 0;
+    while (i < size() || j < other.size()) {
+      boolean takeThis =
+          j == other.size()
+              || (i < size() && other.compareStart(j, startSeconds[i], startNanos[i]) >= 0);
+      if (takeThis) {
+        result.merge(startSeconds[i], startNanos[i], endSeconds[i], endNanos[i]);
+        i++;
+      } else {
+        result.merge(
+            other.startSeconds[j], other.startNanos[j], other.endSeconds[j], other.endNanos[j]);
+        j++;
+      }
+    }
+    return result.build();
+  }
+
+  /**
+   * Gets the intersection of this set and another, inclusive of shared boundary date-times: where
+   * a range of one set ends exactly when a range of the other starts, the result holds that
+   * instant as a zero-length range.
+   *
+   * @param other The set to intersect with this one.
+   * @return A new DateTimeRangeSet holding every date-time in both sets.
+   */
+  public DateTimeRangeSet intersect(DateTimeRangeSet other) {
+    return intersect(other, true);
+  }
+
+  /**
+   * Gets the intersection of this set and another, excluding ranges that only share a boundary
+   * date-time, so the result never holds zero-length ranges produced by touching ranges.
+   *
+   * @param other The set to intersect with this one.
+   * @return A new DateTimeRangeSet holding the overlaps of positive length between the two sets.
+   */
+  public DateTimeRangeSet intersectExclusive(DateTimeRangeSet other) {
+    return intersect(other, false);
+  }
+
+  /**
+   * Gets this set with every range of another set removed. The ends of the removed ranges stay in
+   * the result, so removing 12:00-13:00 from 9:00-17:00 leaves 9:00-12:00 and 13:00-17:00.
+   *
+   * @param other The set to remove from this one.
+   * @return A new DateTimeRangeSet holding what remains of this set.
+   */
+  public DateTimeRangeSet subtract(DateTimeRangeSet other) {
+    Accumulator result = new Accumulator(size() + other.size());
+    int j = 0;
+    for (int i = 0; i < size(); i++) {
+      long fromSecond = startSeconds[i];
+      int fromNano = startNanos[i];
+      long toSecond = endSeconds[i];
+      int toNano = endNanos[i];
+      // Skip removed ranges ending before this one starts; they cannot reach later ranges either.
+      while (j < other.size() && other.compareEnd(j, fromSecond, fromNano) < 0) {
+        j++;
+      }
+      if (DateTimeRange.compare(fromSecond, fromNano, toSecond, toNano) == 0) {
+        // A zero-length range survives unless a removed range contains it.
+        if (j == other.size() || other.compareStart(j, fromSecond, fromNano) > 0) {
+          result.append(fromSecond, fromNano, toSecond, toNano);
+        }
+        continue;
+      }
+      for (int k = j; k < other.size() && other.compareStart(k, toSecond, toNano) < 0; k++) {
+        if (other.compareEnd(k, fromSecond, fromNano) <= 0 || other.isZeroLength(k)) {
+          continue; // removes nothing of positive length from what is left
+        }
+        if (other.compareStart(k, fromSecond, fromNano) > 0) {
+          result.append(fromSecond, fromNano, other.startSeconds[k], other.startNanos[k]);
+        }
+        fromSecond = other.endSeconds[k];
+        fromNano = other.endNanos[k];
+        if (DateTimeRange.compare(fromSecond, fromNano, toSecond, toNano) >= 0) {
+          break;
+        }
+      }
+      if (DateTimeRange.compare(fromSecond, fromNano, toSecond, toNano) < 0) {
+        result.append(fromSecond, fromNano, toSecond, toNano);
+      }
+    }
+    return result.build();
+  }
+
+  /**
+   * Gets the parts of a window not covered by this set, such as the free time within working
+   * hours. As with {@link #subtract(DateTimeRangeSet)}, the ends of this set's ranges stay in the
+   * result.
+   *
+   * @param window The range to find the gaps in.
+   * @return A new DateTimeRangeSet holding what remains of window.
+   */
+  public DateTimeRangeSet complementWithin(DateTimeRange window) {
+    return of(List.of(window)).subtract(this);
+  }
+
+  /**
+   * Gets the total duration of the ranges in the set.
+   *
+   * @return The sum of the ranges' durations.
+   */
+  public Duration totalDuration() {
+    long seconds = 0;
+    long nanos = 0;
+    for (int i = 0; i < startSeconds.length; i++) {
+      seconds += endSeconds[i] - startSeconds[i];
+      nanos += endNanos[i] - startNanos[i];
+    }
+    return Duration.ofSeconds(seconds, nanos);
+  }
+
+  /**
+   * Gets the disjoint ranges in the set, in chronological order.
+   *
+   * @return An unmodifiable list view of the ranges.
+   */
+  public List<DateTimeRange> ranges() {
+    return new RangeList();
+  }
+
+  /**
+   * Gets an iterator over the disjoint ranges in the set, in chronological order.
+   *
+   * @return An iterator over the ranges.
+   */
+  @Override
+  public Iterator<DateTimeRange> iterator() {
+    return ranges().iterator();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof DateTimeRangeSet that)) {
+      return false;
+    }
+    return Arrays.equals(startSeconds, that.startSeconds)
+        && Arrays.equals(startNanos, that.startNanos)
+        && Arrays.equals(endSeconds, that.endSeconds)
+        && Arrays.equals(endNanos, that.endNanos);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Arrays.hashCode(startSeconds);
+    result = 31 * result + Arrays.hashCode(startNanos);
+    result = 31 * result + Arrays.hashCode(endSeconds);
+    return 31 * result + Arrays.hashCode(endNanos);
+  }
+
+  private DateTimeRangeSet intersect(DateTimeRangeSet other, boolean inclusive) {
+    Accumulator result = new Accumulator(Math.min(size(), other.size()));
+    int i = 0;
+    int j = 0;
+    while (i < size() && j < other.size()) {
+      boolean laterStartIsThis = other.compareStart(j, startSeconds[i], startNanos[i]) <= 0;
+      long fromSecond = laterStartIsThis ? startSeconds[i] : other.startSeconds[j];
+      int fromNano = laterStartIsThis ? startNanos[i] : other.startNanos[j];
+      int endOrder = other.compareEnd(j, endSeconds[i], endNanos[i]); // other's end vs this end
+      long toSecond = endOrder >= 0 ? endSeconds[i] : other.endSeconds[j];
+      int toNano = endOrder >= 0 ? endNanos[i] : other.endNanos[j];
+      int order = DateTimeRange.compare(fromSecond, fromNano, toSecond, toNano);
+      if (order < 0 || (inclusive && order == 0)) {
+        result.append(fromSecond, fromNano, toSecond, toNano);
+      }
+      if (endOrder >= 0) {
+        i++;
+      }
+      if (endOrder <= 0) {
+        j++;
+      }
+    }
+    return result.build();
+  }
+
+  private DateTimeRange rangeAt(int index) {
+    return DateTimeRange.of(
+        LocalDateTime.ofEpochSecond(startSeconds[index], startNanos[index], ZoneOffset.UTC),
+        LocalDateTime.ofEpochSecond(endSeconds[index], endNanos[index], ZoneOffset.UTC));
+  }
+
+  private boolean isZeroLength(int index) {
+    return startSeconds[index] == endSeconds[index] && startNanos[index] == endNanos[index];
+  }
+
+  /** Compares the start of the range at index with the given instant. */
+  private int compareStart(int index, long second, int nano) {
+    return DateTimeRange.compare(startSeconds[index], startNanos[index], second, nano);
+  }
+
+  /** Compares the end of the range at index with the given instant. */
+  private int compareEnd(int index, long second, int nano) {
+    return DateTimeRange.compare(endSeconds[index], endNanos[index], second, nano);
+  }
+
+  /**
+   * Finds the last range starting before the given instant, or also on it when orOn is true.
+   *
+   * @return The index of that range, or -1 if there is none.
+   */
+  private int lastStartingBefore(long second, int nano, boolean orOn) {
+    int low = 0;
+    int high = startSeconds.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      int order = compareStart(mid, second, nano);
+      if (order < 0 || (orOn && order == 0)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low - 1;
+  }
+
+  private DateTimeRangeSet(
+      long[] startSeconds, int[] startNanos, long[] endSeconds, int[] endNanos) {
+    this.startSeconds = startSeconds;
+    this.startNanos = startNanos;
+    this.endSeconds = endSeconds;
+    this.endNanos = endNanos;
+  }
+
+  private final class RangeList extends AbstractList<DateTimeRange> implements RandomAccess {
+    @Override
+    public DateTimeRange get(int index) {
+      return rangeAt(index);
+    }
+
+    @Override
+    public int size() {
+      return startSeconds.length;
+    }
+  }
+
+  /** Collects the ranges of a new set, in chronological order, into growable primitive arrays. */
+  private static final class Accumulator {
+    private long[] startSeconds;
+    private int[] startNanos;
+    private long[] endSeconds;
+    private int[] endNanos;
+    private int count;
+
+    Accumulator(int capacity) {
+      int length = Math.max(capacity, 4);
+      startSeconds = new long[length];
+      startNanos = new int[length];
+      endSeconds = new long[length];
+      endNanos = new int[length];
+    }
+
+    /** Appends a range starting after the end of the last one appended. */
+    void append(long startSecond, int startNano, long endSecond, int endNano) {
+      if (count == startSeconds.length) {
+        int length = count * 2;
+        startSeconds = Arrays.copyOf(startSeconds, length);
+        startNanos = Arrays.copyOf(startNanos, length);
+        endSeconds = Arrays.copyOf(endSeconds, length);
+        endNanos = Arrays.copyOf(endNanos, length);
+      }
+      startSeconds[count] = startSecond;
+      startNanos[count] = startNano;
+      endSeconds[count] = endSecond;
+      endNanos[count] = endNano;
+      count++;
+    }
+
+    /**
+     * Adds a range starting no earlier than the last one added, merging it into that one if they
+     * overlap or touch.
+     */
+    void merge(long startSecond, int startNano, long endSecond, int endNano) {
+      int last = count - 1;
+      if (count > 0
+          && DateTimeRange.compare(startSecond, startNano, endSeconds[last], endNanos[last]) <= 0) {
+        if (DateTimeRange.compare(endSecond, endNano, endSeconds[last], endNanos[last]) > 0) {
+          endSeconds[last] = endSecond;
+          endNanos[last] = endNano;
+        }
+      } else {
+        append(startSecond, startNano, endSecond, endNano);
+      }
+    }
+
+    DateTimeRangeSet build() {
+      if (count == 0) {
+        return EMPTY;
+      }
+      return new DateTimeRangeSet(
+          Arrays.copyOf(startSeconds, count),
+          Arrays.copyOf(startNanos, count),
+          Arrays.copyOf(endSeconds, count),
+          Arrays.copyOf(endNanos, count));
+    }
+  }
+
+  /**
+   * Collects ranges for a {@link DateTimeRangeSet}. Ranges may be added in any order; they are
+   * sorted and merged once, when {@link #build()} is called.
+   *
+   * <p>This class is not thread-safe.
+   */
+  public static final class Builder {
+    private final List<DateTimeRange> ranges = new ArrayList<>();
+
+    /**
+     * Adds a range to the set being built.
+     *
+     * @param dateTimeRange The range to add; must not end before it starts.
+     * @return This builder.
+     */
+    public Builder add(DateTimeRange dateTimeRange) {
+      if (dateTimeRange == null) {
+        throw new IllegalArgumentException("range required");
+      }
+      if (DateTimeRange.compare(
+              dateTimeRange.endEpochSecond(),
+              dateTimeRange.endNano(),
+              dateTimeRange.startEpochSecond(),
+              dateTimeRange.startNano())
+          < 0) {
+        throw new IllegalArgumentException("end before start");
+      }
+      ranges.add(dateTimeRange);
+      return this;
+    }
+
+    /**
+     * Adds every range in the given collection to the set being built.
+     *
+     * @param dateTimeRanges The ranges to add.
+     * @return This builder.
+     */
+    public Builder addAll(Collection<DateTimeRange> dateTimeRanges) {
+      for (DateTimeRange dateTimeRange : dateTimeRanges) {
+        add(dateTimeRange);
+      }
+      return this;
+    }
+
+    /**
+     * Builds the set, sorting the collected ranges once and merging overlapping or touching ones.
+     *
+     * @return A new DateTimeRangeSet.
+     */
+    public DateTimeRangeSet build() {
+      List<DateTimeRange> sorted = new ArrayList<>(ranges);
+      Collections.sort(sorted); // by start, then end
+      Accumulator result = new Accumulator(sorted.size());
+      for (DateTimeRange range : sorted) {
+        result.merge(
+            range.startEpochSecond(), range.startNano(), range.endEpochSecond(), range.endNano());
+      }
+      return result.build();
+    }
+
+    private Builder() {}
+  }
+}
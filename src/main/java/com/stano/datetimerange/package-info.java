@@ -6,6 +6,10 @@
  * com.stano.timerange.TimeRange} applied to a date, or spanning a whole day. {@link
  * com.stano.datetimerange.DateTimeRangeWithPeriodLength} pairs a {@code DateTimeRange} with a fixed
  * period length in minutes, and {@link com.stano.datetimerange.DateTimeRangeIterator} iterates over
- * a range's date-times in fixed-length steps.
+ * a range's date-times in fixed-length steps. {@link com.stano.datetimerange.DateTimeRangeSet}
+ * holds a normalized set of ranges with merge-based set operations, and {@link
+ * com.stano.datetimerange.DateTimeRangeIndex} is an interval tree for overlap queries. {@link
+ * com.stano.datetimerange.ConcurrencyProfile} counts how many of a collection of ranges are in
+ * progress over time.
  */
 package com.stano.datetimerange;
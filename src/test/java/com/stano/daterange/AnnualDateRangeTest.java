@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class AnnualDateRangeTest {
 
@@ -25,11 +26,147 @@ class AnnualDateRangeTest {
   }
 
   @Test
-  void startOnFeb29EndsOnFeb28NextYear() {
+  void startOnFeb29EndsTheDayBeforeNextYearsPeriod() {
     DateRange s = AnnualDateRange.withStartDate(LocalDate.of(2020, 2, 29));
-    assertEquals(LocalDate.of(2021, 2, 28), s.getEndDate());
+    assertEquals(LocalDate.of(2021, 2, 27), s.getEndDate());
+    assertEquals(
+        AnnualDateRange.withStartDate(LocalDate.of(2020, 2, 29), LeapDayPolicy.LAST_DAY_OF_MONTH),
+        s);
 
     assertEquals(LocalDate.of(2021, 2, 28), s.next().getStartDate());
     assertEquals(LocalDate.of(2022, 2, 27), s.next().getEndDate());
+    assertEquals(LocalDate.of(2024, 2, 29), s.nextN(4).getStartDate());
+
+    DateRange e = AnnualDateRange.withEndDate(LocalDate.of(2024, 2, 28));
+    assertEquals(LocalDate.of(2023, 2, 28), e.getStartDate());
+    assertEquals(LocalDate.of(2024, 2, 29), e.next().getStartDate());
+  }
+
+  @Test
+  void nextAndPriorAreContiguousForEveryDate() {
+    for (LocalDate day = LocalDate.of(2022, 1, 1); day.getYear() < 2026; day = day.plusDays(1)) {
+      assertContiguous(AnnualDateRange.withStartDate(day));
+      assertContiguous(AnnualDateRange.withEndDate(day));
+      assertEquals(day, AnnualDateRange.withStartDate(day).getStartDate());
+      assertEquals(day, AnnualDateRange.withEndDate(day).getEndDate());
+    }
+  }
+
+  @Test
+  void rangeContainingDateFindsDistantYearsDirectly() {
+    DateRange s = AnnualDateRange.withStartDate(LocalDate.of(2021, 3, 1));
+
+    DateRange future = s.rangeContainingDate(LocalDate.of(2051, 2, 28));
+    assertEquals(LocalDate.of(2050, 3, 1), future.getStartDate());
+    assertEquals(LocalDate.of(2051, 2, 28), future.getEndDate());
+
+    DateRange past = s.rangeContainingDate(LocalDate.of(1999, 3, 1));
+    assertEquals(LocalDate.of(1999, 3, 1), past.getStartDate());
+    assertEquals(LocalDate.of(2000, 2, 29), past.getEndDate());
+  }
+
+  @Test
+  void startOnFeb29ReturnsToFeb29InLaterLeapYears() {
+    DateRange s = AnnualDateRange.withStartDate(LocalDate.of(2020, 2, 29));
+
+    DateRange leap = s.nextN(4);
+    assertEquals(LocalDate.of(2024, 2, 29), leap.getStartDate());
+    assertEquals(LocalDate.of(2025, 2, 27), leap.getEndDate());
+    assertEquals(leap, s.rangeContainingDate(LocalDate.of(2024, 6, 1)));
+  }
+
+  @Test
+  void nextNAndPriorNJumpWholeYears() {
+    DateRange s = AnnualDateRange.withStartDate(LocalDate.of(2021, 3, 1));
+
+    assertEquals(LocalDate.of(2071, 3, 1), s.nextN(50).getStartDate());
+    assertEquals(LocalDate.of(2072, 2, 29), s.nextN(50).getEndDate());
+    assertEquals(LocalDate.of(1971, 3, 1), s.priorN(50).getStartDate());
+    assertEquals(LocalDate.of(1972, 2, 29), s.priorN(50).getEndDate());
+  }
+
+  @Test
+  void periodIndexOfAndRangeAtRoundTrip() {
+    LocalDate anchor = LocalDate.of(2023, 4, 1);
+    long index = AnnualDateRange.periodIndexOf(LocalDate.of(2024, 3, 31), anchor);
+    assertEquals(2023, index);
+    assertEquals(index + 1, AnnualDateRange.periodIndexOf(LocalDate.of(2024, 4, 1), anchor));
+
+    assertEquals(AnnualDateRange.withStartDate(anchor), AnnualDateRange.rangeAt(index, anchor));
+  }
+
+  @Test
+  void leapDayPolicyPlacesFeb29AnniversariesInCommonYears() {
+    LocalDate leapDay = LocalDate.of(2020, 2, 29);
+
+    DateRange clamped = AnnualDateRange.withStartDate(leapDay, LeapDayPolicy.LAST_DAY_OF_MONTH);
+    assertEquals(LocalDate.of(2021, 2, 27), clamped.getEndDate());
+    assertEquals(LocalDate.of(2021, 2, 28), clamped.next().getStartDate());
+    assertEquals(LocalDate.of(2024, 2, 29), clamped.nextN(4).getStartDate());
+
+    DateRange rolled =
+        AnnualDateRange.withStartDate(leapDay, LeapDayPolicy.FIRST_DAY_OF_NEXT_MONTH);
+    assertEquals(LocalDate.of(2021, 2, 28), rolled.getEndDate());
+    assertEquals(LocalDate.of(2021, 3, 1), rolled.next().getStartDate());
+    assertEquals(LocalDate.of(2024, 2, 28), rolled.nextN(3).getEndDate());
+    assertEquals(LocalDate.of(2024, 2, 29), rolled.nextN(4).getStartDate());
+    assertEquals(LocalDate.of(2019, 3, 1), rolled.prior().getStartDate());
+
+    DateRange drifted = AnnualDateRange.withStartDate(leapDay, LeapDayPolicy.DRIFT);
+    assertEquals(LocalDate.of(2021, 2, 27), drifted.getEndDate());
+    assertEquals(LocalDate.of(2024, 2, 28), drifted.nextN(4).getStartDate());
+    assertEquals(LocalDate.of(2064, 2, 28), drifted.nextN(44).getStartDate());
+    assertEquals(LocalDate.of(2016, 2, 28), drifted.priorN(4).getStartDate());
+    assertEquals(leapDay, drifted.nextN(4).priorN(4).getStartDate());
+  }
+
+  @Test
+  void leapDayPolicyIndexesMatchDefaultNumbering() {
+    LocalDate anchor = LocalDate.of(2020, 2, 29);
+    LeapDayPolicy policy = LeapDayPolicy.FIRST_DAY_OF_NEXT_MONTH;
+
+    long index = AnnualDateRange.periodIndexOf(anchor, anchor, policy);
+    assertEquals(AnnualDateRange.periodIndexOf(anchor, anchor), index);
+    assertEquals(index, AnnualDateRange.periodIndexOf(LocalDate.of(2021, 2, 28), anchor, policy));
+    assertEquals(
+        index + 1, AnnualDateRange.periodIndexOf(LocalDate.of(2021, 3, 1), anchor, policy));
+
+    DateRange range = AnnualDateRange.rangeAt(index + 30, anchor, policy);
+    assertEquals(LocalDate.of(2050, 3, 1), range.getStartDate());
+    assertEquals(range, range.rangeContainingDate(LocalDate.of(2051, 2, 28)));
+    assertEquals(range.next(), range.rangeContainingDate(LocalDate.of(2051, 3, 1)));
+  }
+
+  @Test
+  void sameRangeYearsAgoJumpsWholeYears() {
+    DateRange range = AnnualDateRange.withStartDate(LocalDate.of(2024, 7, 1));
+
+    DateRange tenYearsAgo = AnnualDateRange.sameRangeYearsAgo(range, 10);
+    assertEquals(LocalDate.of(2014, 7, 1), tenYearsAgo.getStartDate());
+    assertEquals(LocalDate.of(2015, 6, 30), tenYearsAgo.getEndDate());
+    assertEquals(
+        LocalDate.of(2034, 7, 1), AnnualDateRange.sameRangeYearsAgo(range, -10).getStartDate());
+
+    DateRange leap = AnnualDateRange.withStartDate(LocalDate.of(2024, 2, 29), LeapDayPolicy.DRIFT);
+    assertEquals(
+        LocalDate.of(2023, 2, 28), AnnualDateRange.sameRangeYearsAgo(leap, 1).getStartDate());
+
+    DateRange plain = DateRange.of(LocalDate.of(2024, 7, 1), LocalDate.of(2025, 6, 30));
+    assertThrows(
+        IllegalArgumentException.class, () -> AnnualDateRange.sameRangeYearsAgo(plain, 1));
+    DateRange half = SemiAnnualDateRange.withStartDate(LocalDate.of(2024, 7, 1));
+    assertThrows(IllegalArgumentException.class, () -> AnnualDateRange.sameRangeYearsAgo(half, 1));
+  }
+
+  private static void assertContiguous(DateRange seed) {
+    String message = seed.getStartDate() + " to " + seed.getEndDate();
+    DateRange next = seed.next();
+    DateRange prior = seed.prior();
+    assertEquals(seed.getEndDate().plusDays(1), next.getStartDate(), message);
+    assertEquals(seed.getStartDate().minusDays(1), prior.getEndDate(), message);
+    assertEquals(next.getEndDate().plusDays(1), next.next().getStartDate(), message);
+    assertEquals(prior.getStartDate().minusDays(1), prior.prior().getEndDate(), message);
+    assertEquals(next, seed.rangeContainingDate(next.getEndDate()), message);
+    assertEquals(prior, seed.rangeContainingDate(prior.getStartDate()), message);
   }
 }
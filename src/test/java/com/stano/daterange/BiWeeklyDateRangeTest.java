@@ -42,4 +42,18 @@ class BiWeeklyDateRangeTest {
         LocalDate.of(2014, 12, 22), range.getEndDate()); // Thu -> next Mon (offset -3 + 7 = 4)
     assertEquals(LocalDate.of(2014, 12, 9), range.getStartDate()); // end - 13 days
   }
+
+  @Test
+  void periodIndexOfAndRangeAtRoundTrip() {
+    LocalDate anchor = LocalDate.of(2024, 1, 1);
+    long index = BiWeeklyDateRange.periodIndexOf(anchor, anchor);
+    assertEquals(1408, index);
+    assertEquals(index, BiWeeklyDateRange.periodIndexOf(LocalDate.of(2024, 1, 14), anchor));
+    assertEquals(index + 1, BiWeeklyDateRange.periodIndexOf(LocalDate.of(2024, 1, 15), anchor));
+
+    // any anchor in the same sequence numbers periods identically
+    assertEquals(index, BiWeeklyDateRange.periodIndexOf(anchor, LocalDate.of(2023, 12, 18)));
+
+    assertEquals(BiWeeklyDateRange.withStartDate(anchor), BiWeeklyDateRange.rangeAt(index, anchor));
+  }
 }
@@ -0,0 +1,122 @@
+package com.stano.daterange;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DateRangeCacheTest {
+  private static final PeriodAnchor FIFTEENTH = PeriodAnchor.monthsStartingOn(15);
+
+  @Test
+  void returnsCanonicalInstancesAndCountsHits() {
+    DateRangeCache cache = DateRangeCache.create(100);
+
+    DateRange first =
+        cache.rangeContaining(DateRangeType.MONTHLY, LocalDate.of(2025, 3, 20), FIFTEENTH);
+    DateRange second =
+        cache.rangeContaining(DateRangeType.MONTHLY, LocalDate.of(2025, 4, 10), FIFTEENTH);
+
+    assertSame(first, second);
+    assertEquals(
+        DateRangeType.MONTHLY.rangeContaining(LocalDate.of(2025, 3, 20), FIFTEENTH), first);
+    assertEquals(1, cache.hitCount());
+    assertEquals(1, cache.missCount());
+    assertEquals(0.5, cache.hitRate(), 0.0);
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  void anchorsOfTheSameSequenceShareEntries() {
+    DateRangeCache cache = DateRangeCache.create(100);
+    LocalDate date = LocalDate.of(2025, 5, 20);
+
+    DateRange byDay =
+        cache.rangeContaining(
+            DateRangeType.WEEKLY, date, PeriodAnchor.weeksEndingOn(DayOfWeek.SUNDAY));
+    DateRange byDate =
+        cache.rangeContaining(
+            DateRangeType.WEEKLY, date, PeriodAnchor.startingOn(LocalDate.of(2025, 1, 6)));
+    DateRange otherType =
+        cache.rangeContaining(
+            DateRangeType.BI_WEEKLY, date, PeriodAnchor.startingOn(LocalDate.of(2025, 1, 6)));
+
+    assertSame(byDay, byDate);
+    assertEquals(2, cache.size());
+    assertEquals(14, otherType.getNumberOfDays());
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedWithinMaximumSize() {
+    DateRangeCache cache = DateRangeCache.create(1);
+    LocalDate date = LocalDate.of(2025, 1, 1);
+
+    DateRange january = cache.rangeContaining(DateRangeType.MONTHLY, date, FIFTEENTH);
+    cache.rangeContaining(DateRangeType.MONTHLY, date.plusMonths(1), FIFTEENTH);
+    DateRange januaryAgain = cache.rangeContaining(DateRangeType.MONTHLY, date, FIFTEENTH);
+
+    assertEquals(january, januaryAgain);
+    assertTrue(january != januaryAgain);
+    assertEquals(2, cache.evictionCount());
+    assertEquals(1, cache.size());
+
+    DateRangeCache larger = DateRangeCache.create(50);
+    for (int i = 0; i < 500; i++) {
+      larger.rangeContaining(DateRangeType.SEMI_MONTHLY, date.plusDays(i * 16L), null);
+    }
+    assertTrue(larger.size() <= 50);
+    larger.clear();
+    assertEquals(0, larger.size());
+  }
+
+  @Test
+  void concurrentReadersSeeOneInstancePerPeriod() throws Exception {
+    DateRangeCache cache = DateRangeCache.create(1000);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<List<DateRange>>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  List<DateRange> ranges = new ArrayList<>();
+                  for (int i = 0; i < 365; i++) {
+                    LocalDate date = LocalDate.of(2025, 1, 1).plusDays(i);
+                    ranges.add(cache.rangeContaining(DateRangeType.MONTHLY, date, FIFTEENTH));
+                  }
+                  return ranges;
+                }));
+      }
+      List<DateRange> expected = futures.get(0).get();
+      for (Future<List<DateRange>> future : futures) {
+        List<DateRange> ranges = future.get();
+        for (int i = 0; i < ranges.size(); i++) {
+          assertSame(expected.get(i), ranges.get(i));
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(13, cache.size());
+    assertEquals(4 * 365, cache.hitCount() + cache.missCount());
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> DateRangeCache.create(0));
+    DateRangeCache cache = DateRangeCache.create(10);
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> cache.rangeContaining(DateRangeType.MONTHLY, LocalDate.of(2025, 1, 1), null));
+  }
+}
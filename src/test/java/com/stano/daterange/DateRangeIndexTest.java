@@ -0,0 +1,111 @@
+package com.stano.daterange;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateRangeIndexTest {
+
+  private static final LocalDate BASE = LocalDate.of(2024, 1, 1);
+
+  private static DateRange days(int startOffset, int endOffset) {
+    return DateRange.of(BASE.plusDays(startOffset), BASE.plusDays(endOffset));
+  }
+
+  @Test
+  void containingAndOverlappingReturnPayloadsInStartOrder() {
+    DateRangeIndex<String> index =
+        DateRangeIndex.<String>builder()
+            .add(days(10, 20), "c")
+            .add(days(0, 30), "a")
+            .add(days(5, 6), "b")
+            .add(days(25, 40), "d")
+            .add(days(50, 50), "e")
+            .build();
+
+    assertEquals(5, index.size());
+    assertEquals(List.of("a", "b"), index.containing(BASE.plusDays(5)));
+    assertEquals(List.of("a", "c"), index.containing(BASE.plusDays(20)));
+    assertEquals(List.of("d"), index.containing(BASE.plusDays(31)));
+    assertEquals(List.of(), index.containing(BASE.plusDays(45)));
+    assertEquals(List.of(), index.containing(BASE.minusDays(1)));
+
+    assertEquals(List.of("a", "c", "d"), index.overlapping(days(20, 25)));
+    assertEquals(List.of("d", "e"), index.overlapping(days(35, 60)));
+    assertEquals(List.of(), index.overlapping(days(41, 49)));
+  }
+
+  @Test
+  void ofBulkLoadsFromUnsortedItemsAndVisitorsMatchLists() {
+    record Shift(String name, DateRange range) {}
+
+    List<Shift> shifts =
+        List.of(
+            new Shift("late", days(3, 9)),
+            new Shift("early", days(-3, 1)),
+            new Shift("same-start", days(3, 4)));
+    DateRangeIndex<Shift> index = DateRangeIndex.of(shifts, Shift::range);
+
+    List<String> visited = new ArrayList<>();
+    index.forEachOverlapping(days(0, 3), s -> visited.add(s.name()));
+    assertEquals(List.of("early", "late", "same-start"), visited);
+
+    List<String> containing = new ArrayList<>();
+    index.forEachContaining(BASE.plusDays(5), s -> containing.add(s.name()));
+    assertEquals(List.of("late"), containing);
+  }
+
+  @Test
+  void emptyIndexReturnsNothing() {
+    DateRangeIndex<String> index = DateRangeIndex.<String>builder().build();
+
+    assertEquals(0, index.size());
+    assertEquals(List.of(), index.containing(BASE));
+    assertEquals(List.of(), index.overlapping(days(0, 100)));
+  }
+
+  @Test
+  void builderRejectsNullRange() {
+    DateRangeIndex.Builder<String> builder = DateRangeIndex.builder();
+
+    assertThrows(IllegalArgumentException.class, () -> builder.add(null, "none"));
+    assertEquals(0, builder.build().size());
+  }
+
+  @Test
+  void queriesAgreeWithLinearScan() {
+    Random random = new Random(7);
+    List<DateRange> ranges = new ArrayList<>();
+    DateRangeIndex.Builder<Integer> builder = DateRangeIndex.builder();
+    for (int i = 0; i < 2000; i++) {
+      int start = random.nextInt(5000) - 1000;
+      DateRange range = days(start, start + random.nextInt(random.nextBoolean() ? 5 : 400));
+      ranges.add(range);
+      builder.add(range, i);
+    }
+    DateRangeIndex<Integer> index = builder.build();
+
+    for (int q = 0; q < 300; q++) {
+      int start = random.nextInt(5200) - 1100;
+      DateRange probe = days(start, start + random.nextInt(30));
+      List<Integer> expected = new ArrayList<>();
+      for (int i = 0; i < ranges.size(); i++) {
+        if (ranges.get(i).overlaps(probe)) {
+          expected.add(i);
+        }
+      }
+      List<Integer> actual = new ArrayList<>(index.overlapping(probe));
+      actual.sort(null);
+      assertEquals(expected, actual);
+
+      LocalDate date = probe.getStartDate();
+      long containingCount = ranges.stream().filter(r -> r.containsDate(date)).count();
+      assertEquals(containingCount, index.containing(date).size());
+    }
+  }
+}
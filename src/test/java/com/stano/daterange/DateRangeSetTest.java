@@ -0,0 +1,110 @@
+package com.stano.daterange;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateRangeSetTest {
+
+  private static DateRange range(int startMonth, int startDay, int endMonth, int endDay) {
+    return DateRange.of(
+        LocalDate.of(2024, startMonth, startDay), LocalDate.of(2024, endMonth, endDay));
+  }
+
+  @Test
+  void builderSortsAndCoalescesOverlappingAndAdjacentRanges() {
+    DateRangeSet set =
+        DateRangeSet.builder()
+            .add(range(3, 1, 3, 10))
+            .add(range(1, 1, 1, 10))
+            .add(range(1, 5, 1, 20)) // overlaps the previous
+            .add(range(1, 21, 1, 25)) // adjacent to the merged range
+            .add(range(3, 3, 3, 5)) // inside 3/1..3/10
+            .build();
+
+    assertEquals(List.of(range(1, 1, 1, 25), range(3, 1, 3, 10)), set.ranges());
+    assertEquals(2, set.size());
+    assertFalse(set.isEmpty());
+    assertEquals(set, DateRangeSet.of(set.ranges()));
+    assertEquals(set.hashCode(), DateRangeSet.of(set.ranges()).hashCode());
+
+    List<DateRange> iterated = new ArrayList<>();
+    set.forEach(iterated::add);
+    assertEquals(set.ranges(), iterated);
+  }
+
+  @Test
+  void containsDateAndContainsRange() {
+    DateRangeSet set =
+        DateRangeSet.of(List.of(range(1, 1, 1, 10), range(1, 11, 1, 15), range(2, 1, 2, 5)));
+
+    assertTrue(set.containsDate(LocalDate.of(2024, 1, 1)));
+    assertTrue(set.containsDate(LocalDate.of(2024, 1, 15)));
+    assertFalse(set.containsDate(LocalDate.of(2024, 1, 16)));
+    assertFalse(set.containsDate(LocalDate.of(2023, 12, 31)));
+    assertTrue(set.containsDate(LocalDate.of(2024, 2, 5)));
+    assertFalse(set.containsDate(LocalDate.of(2024, 2, 6)));
+
+    assertTrue(set.containsRange(range(1, 5, 1, 12))); // spans the coalesced boundary
+    assertFalse(set.containsRange(range(1, 14, 2, 2)));
+    assertFalse(set.containsRange(range(2, 4, 2, 6)));
+  }
+
+  @Test
+  void overlapsAnyAndFirstOverlapping() {
+    DateRangeSet set = DateRangeSet.of(List.of(range(1, 10, 1, 20), range(3, 1, 3, 31)));
+
+    assertTrue(set.overlapsAny(range(1, 1, 1, 10)));
+    assertTrue(set.overlapsAny(range(1, 21, 3, 1)));
+    assertFalse(set.overlapsAny(range(1, 21, 2, 29)));
+    assertFalse(set.overlapsAny(range(1, 1, 1, 9)));
+    assertFalse(set.overlapsAny(range(4, 1, 4, 30)));
+
+    assertEquals(Optional.of(range(1, 10, 1, 20)), set.firstOverlapping(range(1, 1, 12, 31)));
+    assertEquals(Optional.of(range(3, 1, 3, 31)), set.firstOverlapping(range(1, 21, 3, 1)));
+    assertEquals(Optional.empty(), set.firstOverlapping(range(2, 1, 2, 29)));
+  }
+
+  @Test
+  void emptySetAnswersFalse() {
+    DateRangeSet set = DateRangeSet.builder().build();
+
+    assertSame(DateRangeSet.empty(), set);
+    assertTrue(set.isEmpty());
+    assertFalse(set.containsDate(LocalDate.of(2024, 1, 1)));
+    assertFalse(set.overlapsAny(range(1, 1, 12, 31)));
+    assertEquals(Optional.empty(), set.firstOverlapping(range(1, 1, 12, 31)));
+  }
+
+  @Test
+  void builderRejectsNullRange() {
+    DateRangeSet.Builder builder = DateRangeSet.builder();
+
+    assertThrows(IllegalArgumentException.class, () -> builder.add(null));
+    assertTrue(builder.build().isEmpty());
+  }
+
+  @Test
+  void queriesAgreeWithLinearScan() {
+    Random random = new Random(42);
+    List<DateRange> ranges = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      LocalDate start = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(3000));
+      ranges.add(DateRange.of(start, start.plusDays(random.nextInt(10))));
+    }
+    DateRangeSet set = DateRangeSet.of(ranges);
+
+    for (int i = 0; i < 500; i++) {
+      LocalDate start = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(3100) - 50);
+      DateRange probe = DateRange.of(start, start.plusDays(random.nextInt(5)));
+      assertEquals(probe.overlapsAny(ranges), set.overlapsAny(probe));
+      assertEquals(ranges.stream().anyMatch(r -> r.containsDate(start)), set.containsDate(start));
+    }
+  }
+}
@@ -9,7 +9,11 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -100,6 +104,81 @@ class DateRangeTest {
     assertEquals(dr.dates(), iterList);
   }
 
+  @Test
+  void datesViewComputesDatesOnAccess() {
+    DateRange dr = DateRange.of(LocalDate.of(2020, 2, 27), LocalDate.of(2020, 3, 2));
+    List<LocalDate> view = dr.datesView();
+
+    assertEquals(dr.dates(), view);
+    assertEquals(5, view.size());
+    assertEquals(LocalDate.of(2020, 2, 29), view.get(2));
+    assertEquals(3, view.indexOf(LocalDate.of(2020, 3, 1)));
+    assertEquals(-1, view.indexOf(LocalDate.of(2020, 3, 3)));
+    assertTrue(view.contains(LocalDate.of(2020, 2, 27)));
+    assertFalse(view.contains("2020-02-27"));
+    assertThrows(IndexOutOfBoundsException.class, () -> view.get(5));
+    assertThrows(UnsupportedOperationException.class, () -> view.add(LocalDate.of(2020, 3, 3)));
+
+    DateRange decades = DateRange.of(LocalDate.of(1900, 1, 1), LocalDate.of(2099, 12, 31));
+    List<LocalDate> longView = decades.datesView();
+    assertEquals(decades.getNumberOfDays(), longView.size());
+    assertEquals(LocalDate.of(2099, 12, 31), longView.get(longView.size() - 1));
+  }
+
+  @Test
+  void streamAndSpliteratorAreSizedAndSplitAtMidpoint() {
+    DateRange dr = DateRange.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+
+    Spliterator<LocalDate> spliterator = dr.spliterator();
+    assertTrue(
+        spliterator.hasCharacteristics(
+            Spliterator.SIZED
+                | Spliterator.SUBSIZED
+                | Spliterator.ORDERED
+                | Spliterator.IMMUTABLE));
+    assertEquals(366, spliterator.estimateSize());
+
+    Spliterator<LocalDate> prefix = spliterator.trySplit();
+    assertEquals(183, prefix.estimateSize());
+    assertEquals(183, spliterator.estimateSize());
+    List<LocalDate> firstHalf = new ArrayList<>();
+    prefix.forEachRemaining(firstHalf::add);
+    assertEquals(LocalDate.of(2024, 1, 1), firstHalf.get(0));
+    assertEquals(LocalDate.of(2024, 7, 1), firstHalf.get(182));
+    assertTrue(spliterator.tryAdvance(d -> assertEquals(LocalDate.of(2024, 7, 2), d)));
+
+    assertEquals(dr.dates(), dr.stream().toList());
+    assertEquals(dr.dates(), dr.stream().parallel().toList());
+    assertEquals(366, dr.stream().parallel().count());
+
+    Spliterator<LocalDate> single =
+        DateRange.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1)).spliterator();
+    assertNull(single.trySplit());
+  }
+
+  @Test
+  void epochDayAccessorsIteratorAndStream() {
+    DateRange dr = DateRange.of(LocalDate.of(2024, 2, 27), LocalDate.of(2024, 3, 2));
+
+    assertEquals(LocalDate.of(2024, 2, 27).toEpochDay(), dr.startEpochDay());
+    assertEquals(LocalDate.of(2024, 3, 2).toEpochDay(), dr.endEpochDay());
+
+    List<Long> visited = new ArrayList<>();
+    dr.forEachEpochDay(visited::add);
+    assertEquals(dr.dates().stream().map(LocalDate::toEpochDay).toList(), visited);
+
+    PrimitiveIterator.OfLong it = dr.epochDayIterator();
+    long sum = 0;
+    while (it.hasNext()) {
+      sum += it.nextLong();
+    }
+    assertEquals(dr.epochDays().sum(), sum);
+    assertThrows(NoSuchElementException.class, it::nextLong);
+
+    assertEquals(5, dr.epochDays().count());
+    assertEquals(dr.startEpochDay(), dr.epochDays().min().getAsLong());
+  }
+
   @Test
   void datesForDayAndContainsChecks() {
     DateRange dr = DateRange.of(LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 14));
@@ -116,6 +195,45 @@ class DateRangeTest {
     assertFalse(inner.containsRange(dr));
   }
 
+  @Test
+  void datesForDayJumpsToEachMatchingWeekday() {
+    DateRange dr = DateRange.of(LocalDate.of(2023, 5, 3), LocalDate.of(2023, 5, 24)); // Wed..Wed
+
+    assertEquals(
+        List.of(
+            LocalDate.of(2023, 5, 3),
+            LocalDate.of(2023, 5, 10),
+            LocalDate.of(2023, 5, 17),
+            LocalDate.of(2023, 5, 24)),
+        dr.datesForDay(DayOfWeek.WEDNESDAY));
+    assertEquals(
+        List.of(LocalDate.of(2023, 5, 8), LocalDate.of(2023, 5, 15), LocalDate.of(2023, 5, 22)),
+        dr.datesForDay(DayOfWeek.MONDAY));
+
+    DateRange single = DateRange.of(LocalDate.of(2023, 5, 3), LocalDate.of(2023, 5, 3));
+    assertEquals(List.of(), single.datesForDay(DayOfWeek.THURSDAY));
+  }
+
+  @Test
+  void countOfAndCountByDayOfWeekMatchWalkingTheRange() {
+    for (int length = 1; length <= 30; length++) {
+      for (int shift = 0; shift < 7; shift++) {
+        LocalDate start = LocalDate.of(2024, 1, 1).plusDays(shift);
+        DateRange dr = DateRange.of(start, start.plusDays(length - 1));
+        int[] counts = dr.countByDayOfWeek();
+        for (DayOfWeek day : DayOfWeek.values()) {
+          long expected = dr.stream().filter(d -> d.getDayOfWeek() == day).count();
+          assertEquals(expected, dr.countOf(day));
+          assertEquals(expected, counts[day.ordinal()]);
+        }
+      }
+    }
+
+    DateRange decade = DateRange.of(LocalDate.of(2020, 1, 1), LocalDate.of(2029, 12, 31));
+    assertEquals(522, decade.countOf(DayOfWeek.WEDNESDAY));
+    assertEquals(521, decade.countOf(DayOfWeek.TUESDAY));
+  }
+
   @Test
   void overlapsAndOverlapsAny() {
     DateRange a = DateRange.of(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 10));
@@ -137,6 +255,10 @@ class DateRangeTest {
     assertEquals(LocalDate.of(2020, 6, 8), dr.next().getStartDate());
     assertEquals(LocalDate.of(2020, 6, 15), dr.nextN(2).getStartDate());
     assertEquals(LocalDate.of(2020, 5, 24), dr.priorN(2).getEndDate());
+    assertEquals(LocalDate.of(2030, 5, 27), dr.nextN(521).getStartDate());
+    assertEquals(dr, dr.nextN(521).priorN(521));
+    assertEquals(dr, dr.nextN(0));
+    assertEquals(dr, dr.priorN(-3));
   }
 
   @Test
@@ -174,6 +296,53 @@ class DateRangeTest {
         win.stream().map(DateRange::getStartDate).toList());
   }
 
+  @Test
+  void rangesCoveringStreamsConsecutiveRangesLazily() {
+    DateRange weekly = WeeklyDateRange.withEndDate(LocalDate.of(2024, 1, 7));
+    LocalDate from = LocalDate.of(2000, 1, 1);
+    LocalDate to = LocalDate.of(2029, 12, 31);
+
+    List<DateRange> spans = weekly.rangesCovering(from, to).toList();
+    assertEquals(weekly.rangesContainingSpan(from, to), spans);
+    assertTrue(spans.get(0).containsDate(from));
+    assertTrue(spans.get(spans.size() - 1).containsDate(to));
+    for (int i = 1; i < spans.size(); i++) {
+      assertEquals(spans.get(i - 1).getEndDate().plusDays(1), spans.get(i).getStartDate());
+    }
+
+    // Only the ranges consumed are computed, so a short-circuiting stream stops early.
+    assertEquals(
+        LocalDate.of(2000, 1, 3),
+        weekly.rangesCovering(from, to).skip(1).findFirst().orElseThrow().getStartDate());
+
+    Iterator<DateRange> it =
+        weekly.rangesCoveringIterator(LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 3));
+    assertEquals(weekly, it.next());
+    assertFalse(it.hasNext());
+    assertThrows(NoSuchElementException.class, it::next);
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> weekly.rangesCovering(LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 2)));
+  }
+
+  @Test
+  void rangesWindowIsLazyUnmodifiableView() {
+    DateRange dr = MonthlyDateRange.withEndDateAndStartDay(LocalDate.of(2024, 1, 14), 15);
+
+    List<DateRange> win = dr.rangesWindow(1000, 1000);
+
+    assertEquals(2001, win.size());
+    assertSame(dr, win.get(1000));
+    assertEquals(dr.priorN(1000), win.get(0));
+    assertEquals(dr.nextN(1000), win.get(2000));
+    assertEquals(dr.nextN(7), win.get(1007));
+    assertThrows(IndexOutOfBoundsException.class, () -> win.get(2001));
+    assertThrows(UnsupportedOperationException.class, () -> win.add(dr));
+    assertTrue(dr.rangesBefore(0).isEmpty());
+    assertTrue(dr.rangesAfter(-1).isEmpty());
+    assertEquals(List.of(dr), dr.rangesAfterInclusive(0));
+  }
+
   @Test
   void rangesContainingSpanAndRangeContainingDateWithComposedPriorNext() {
     // 2024-01-01..2024-01-07
@@ -284,4 +453,48 @@ class DateRangeTest {
     assertTrue(a1a.compareTo(b) < 0);
     assertTrue(a1a.compareTo(c) > 0);
   }
+
+  @Test
+  void rangeContainingDateHandlesDistantDatesWithDefaultNavigation() {
+    DateRange base = DateRange.of(LocalDate.of(2020, 6, 1), LocalDate.of(2020, 6, 7));
+
+    DateRange future = base.rangeContainingDate(LocalDate.of(2120, 6, 1));
+    assertEquals(0, (future.getStartDate().toEpochDay() - base.getStartDate().toEpochDay()) % 7);
+    assertTrue(future.containsDate(LocalDate.of(2120, 6, 1)));
+    assertEquals(7, future.getNumberOfDays());
+
+    DateRange past = base.rangeContainingDate(LocalDate.of(1900, 1, 1));
+    assertEquals(0, (base.getStartDate().toEpochDay() - past.getStartDate().toEpochDay()) % 7);
+    assertTrue(past.containsDate(LocalDate.of(1900, 1, 1)));
+    assertEquals(past, past.next().prior());
+  }
+
+  @Test
+  void rangeContainingDateFallsBackToSteppingForCustomNavigation() {
+    DateRangeNavigation tenDays =
+        new DateRangeNavigation() {
+          @Override
+          public DateRange prior(DateRange range) {
+            return DateRange.ofWithNavigation(
+                range.getStartDate().minusDays(10), range.getEndDate().minusDays(10), this);
+          }
+
+          @Override
+          public DateRange next(DateRange range) {
+            return DateRange.ofWithNavigation(
+                range.getStartDate().plusDays(10), range.getEndDate().plusDays(10), this);
+          }
+        };
+    DateRange base =
+        DateRange.ofWithNavigation(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 10), tenDays);
+
+    DateRange found = base.rangeContainingDate(LocalDate.of(2020, 2, 5));
+    assertEquals(LocalDate.of(2020, 1, 31), found.getStartDate());
+    assertEquals(LocalDate.of(2020, 2, 9), found.getEndDate());
+
+    DateRange back = base.rangeContainingDate(LocalDate.of(2019, 12, 25));
+    assertEquals(LocalDate.of(2019, 12, 22), back.getStartDate());
+    assertEquals(LocalDate.of(2020, 2, 10), base.nextN(4).getStartDate());
+    assertEquals(LocalDate.of(2019, 12, 2), base.priorN(3).getStartDate());
+  }
 }
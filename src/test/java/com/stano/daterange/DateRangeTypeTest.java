@@ -0,0 +1,84 @@
+package com.stano.daterange;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DateRangeTypeTest {
+  private static final LocalDate DATE = LocalDate.of(2025, 5, 20);
+
+  @Test
+  void periodsPerYearAndWeekBased() {
+    assertEquals(4, DateRangeType.QUARTERLY.getPeriodsPerYear());
+    assertEquals(2, DateRangeType.SEMI_ANNUAL.getPeriodsPerYear());
+    assertEquals(1, DateRangeType.ANNUAL.getPeriodsPerYear());
+    assertTrue(DateRangeType.WEEKLY.isWeekBased());
+    assertFalse(DateRangeType.ANNUAL.isWeekBased());
+  }
+
+  @Test
+  void rangeContainingMatchesFactories() {
+    assertEquals(
+        WeeklyDateRange.withTargetDate(DATE, DayOfWeek.SUNDAY),
+        DateRangeType.WEEKLY.rangeContaining(DATE, PeriodAnchor.weeksEndingOn(DayOfWeek.SUNDAY)));
+
+    LocalDate payday = LocalDate.of(2025, 1, 6);
+    assertEquals(
+        BiWeeklyDateRange.withStartDate(LocalDate.of(2025, 5, 12)),
+        DateRangeType.BI_WEEKLY.rangeContaining(DATE, PeriodAnchor.startingOn(payday)));
+
+    assertEquals(
+        SemiMonthlyDateRange.withEndDate(LocalDate.of(2025, 5, 31)),
+        DateRangeType.SEMI_MONTHLY.rangeContaining(DATE, null));
+
+    assertEquals(
+        MonthlyDateRange.withEndDateAndStartDay(LocalDate.of(2025, 6, 14), 15),
+        DateRangeType.MONTHLY.rangeContaining(DATE, PeriodAnchor.monthsStartingOn(15)));
+
+    assertEquals(
+        QuarterlyDateRange.withStartDate(LocalDate.of(2025, 4, 1)),
+        DateRangeType.QUARTERLY.rangeContaining(DATE, PeriodAnchor.monthsStartingOn(1)));
+
+    LocalDate policyStart = LocalDate.of(2019, 3, 10);
+    assertEquals(
+        SemiAnnualDateRange.withStartDate(LocalDate.of(2025, 3, 10)),
+        DateRangeType.SEMI_ANNUAL.rangeContaining(DATE, PeriodAnchor.startingOn(policyStart)));
+    assertEquals(
+        AnnualDateRange.withStartDate(LocalDate.of(2025, 3, 10)),
+        DateRangeType.ANNUAL.rangeContaining(DATE, PeriodAnchor.startingOn(policyStart)));
+  }
+
+  @Test
+  void rangesNavigateLikeTheirType() {
+    DateRange quarter =
+        DateRangeType.QUARTERLY.rangeContaining(DATE, PeriodAnchor.monthsStartingOn(1));
+
+    assertEquals(LocalDate.of(2025, 7, 1), quarter.next().getStartDate());
+    assertEquals(LocalDate.of(2024, 4, 1), quarter.priorN(4).getStartDate());
+  }
+
+  @Test
+  void sequenceCoversSpan() {
+    List<DateRange> halves =
+        DateRangeType.SEMI_ANNUAL.sequence(
+            LocalDate.of(2024, 2, 1),
+            LocalDate.of(2025, 1, 1),
+            PeriodAnchor.startingOn(LocalDate.of(2000, 1, 1)));
+
+    assertEquals(
+        List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 7, 1), LocalDate.of(2025, 1, 1)),
+        halves.stream().map(DateRange::getStartDate).toList());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> DateRangeType.MONTHLY.sequence(DATE, DATE.minusDays(1), null));
+    assertThrows(
+        IllegalArgumentException.class, () -> DateRangeType.MONTHLY.rangeContaining(DATE, null));
+  }
+}
@@ -20,4 +20,19 @@ class DateUtilsTest {
     assertEquals(LocalDate.of(2021, 2, 28), DateUtils.addYears(LocalDate.of(2020, 2, 29), 1));
     assertEquals(LocalDate.of(2020, 3, 1), DateUtils.subtractYears(LocalDate.of(2021, 3, 1), 1));
   }
+
+  @Test
+  void dayOfWeekValueAndDayOfMonthMatchLocalDateForEpochDays() {
+    for (long epochDay = -800_000; epochDay <= 800_000; epochDay += 97) {
+      LocalDate date = LocalDate.ofEpochDay(epochDay);
+      assertEquals(date.getDayOfWeek().getValue(), DateUtils.dayOfWeekValue(epochDay));
+      assertEquals(date.getDayOfMonth(), DateUtils.dayOfMonth(epochDay));
+      long monthAndDay = DateUtils.monthAndDay(epochDay);
+      assertEquals(date.getYear() * 12L + date.getMonthValue() - 1, monthAndDay >> 5);
+      assertEquals(date.getDayOfMonth(), monthAndDay & 31);
+    }
+    assertEquals(29, DateUtils.dayOfMonth(LocalDate.of(2024, 2, 29).toEpochDay()));
+    assertEquals(1, DateUtils.dayOfMonth(LocalDate.of(2000, 3, 1).toEpochDay()));
+    assertEquals(4, DateUtils.dayOfWeekValue(0)); // 1970-01-01 was a Thursday
+  }
 }
@@ -0,0 +1,99 @@
+package com.stano.daterange;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Month;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FiscalCalendarTest {
+  // The National Retail Federation calendar: 4-5-4, ending on the Saturday nearest January 31st.
+  private static final FiscalCalendar RETAIL =
+      FiscalCalendar.of(
+          FiscalCalendar.Pattern.FOUR_FIVE_FOUR,
+          Month.JANUARY,
+          DayOfWeek.SATURDAY,
+          FiscalCalendar.YearEnd.NEAREST_END_OF_MONTH);
+
+  @Test
+  void yearEndsOnNearestSaturdayAndSomeYearsHave53Weeks() {
+    assertEquals(LocalDate.of(2023, 1, 28), RETAIL.yearEndOf(2023));
+    assertEquals(LocalDate.of(2024, 2, 3), RETAIL.yearEndOf(2024));
+    assertEquals(52, RETAIL.weeksInYear(2023));
+    assertEquals(53, RETAIL.weeksInYear(2024));
+
+    DateRange year = RETAIL.fiscalYear(2024);
+    assertEquals(LocalDate.of(2023, 1, 29), year.getStartDate());
+    assertEquals(LocalDate.of(2024, 2, 3), year.getEndDate());
+    assertEquals(year, RETAIL.fiscalYearOf(LocalDate.of(2024, 2, 1)));
+    assertEquals(RETAIL.fiscalYear(2025), year.next());
+    assertEquals(RETAIL.fiscalYear(2023), year.prior());
+  }
+
+  @Test
+  void periodsFollowPatternWith53rdWeekInLastPeriod() {
+    DateRange first = RETAIL.fiscalPeriodOf(LocalDate.of(2023, 2, 10));
+    assertEquals(LocalDate.of(2023, 1, 29), first.getStartDate());
+    assertEquals(LocalDate.of(2023, 2, 25), first.getEndDate());
+
+    DateRange second = first.next();
+    assertEquals(LocalDate.of(2023, 2, 26), second.getStartDate());
+    assertEquals(LocalDate.of(2023, 4, 1), second.getEndDate());
+
+    DateRange last = RETAIL.fiscalPeriodOf(LocalDate.of(2024, 2, 3));
+    assertEquals(LocalDate.of(2023, 12, 31), last.getStartDate());
+    assertEquals(LocalDate.of(2024, 2, 3), last.getEndDate());
+    assertEquals(first, last.priorN(11));
+    assertEquals(LocalDate.of(2024, 2, 4), last.next().getStartDate());
+
+    assertEquals(12, RETAIL.periodNumberOf(LocalDate.of(2024, 2, 3)));
+    assertEquals(4, RETAIL.quarterNumberOf(LocalDate.of(2024, 2, 3)));
+    assertEquals(53, RETAIL.weekNumberOf(LocalDate.of(2024, 2, 3)));
+    assertEquals(1, RETAIL.periodNumberOf(LocalDate.of(2024, 2, 4)));
+    assertEquals(2025, RETAIL.fiscalYearNumberOf(LocalDate.of(2024, 2, 4)));
+  }
+
+  @Test
+  void quartersAndWeeksNavigate() {
+    DateRange q1 = RETAIL.fiscalQuarterOf(LocalDate.of(2023, 3, 15));
+    assertEquals(LocalDate.of(2023, 1, 29), q1.getStartDate());
+    assertEquals(LocalDate.of(2023, 4, 29), q1.getEndDate());
+    assertEquals(LocalDate.of(2023, 4, 30), q1.next().getStartDate());
+    assertEquals(RETAIL.fiscalQuarterOf(LocalDate.of(2023, 1, 20)), q1.prior());
+
+    DateRange week = RETAIL.fiscalWeekOf(LocalDate.of(2023, 3, 15));
+    assertEquals(LocalDate.of(2023, 3, 12), week.getStartDate());
+    assertEquals(LocalDate.of(2023, 3, 18), week.getEndDate());
+    assertEquals(7, RETAIL.weekNumberOf(LocalDate.of(2023, 3, 15)));
+  }
+
+  @Test
+  void lastOfMonthRuleAndOtherPatterns() {
+    FiscalCalendar calendar =
+        FiscalCalendar.of(
+            FiscalCalendar.Pattern.FOUR_FOUR_FIVE,
+            Month.SEPTEMBER,
+            DayOfWeek.SATURDAY,
+            FiscalCalendar.YearEnd.LAST_OF_MONTH);
+
+    assertEquals(LocalDate.of(2023, 9, 30), calendar.yearEndOf(2023));
+    assertEquals(LocalDate.of(2024, 9, 28), calendar.yearEndOf(2024));
+    assertEquals(53, calendar.weeksInYear(2023));
+
+    DateRange third = calendar.fiscalPeriodOf(LocalDate.of(2022, 12, 1));
+    assertEquals(LocalDate.of(2022, 11, 20), third.getStartDate());
+    assertEquals(LocalDate.of(2022, 12, 24), third.getEndDate());
+    assertEquals(3, calendar.periodNumberOf(LocalDate.of(2022, 12, 1)));
+    assertEquals(2023, calendar.fiscalYearNumberOf(LocalDate.of(2022, 12, 1)));
+  }
+
+  @Test
+  void rejectsMissingSettings() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> FiscalCalendar.of(null, Month.JANUARY, DayOfWeek.SATURDAY, null));
+  }
+}
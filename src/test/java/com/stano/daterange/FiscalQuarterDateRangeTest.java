@@ -0,0 +1,73 @@
+package com.stano.daterange;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FiscalQuarterDateRangeTest {
+
+  @Test
+  void julyFiscalYearNumbersYearsByTheirEnd() {
+    LocalDate date = LocalDate.of(2027, 2, 14);
+
+    DateRange q3 = FiscalQuarterDateRange.containing(date, Month.JULY);
+    assertEquals(LocalDate.of(2027, 1, 1), q3.getStartDate());
+    assertEquals(LocalDate.of(2027, 3, 31), q3.getEndDate());
+    assertEquals(2027, FiscalQuarterDateRange.fiscalYearOf(date, Month.JULY));
+    assertEquals(3, FiscalQuarterDateRange.quarterOf(date, Month.JULY));
+    assertEquals(q3, FiscalQuarterDateRange.quarter(2027, 3, Month.JULY));
+
+    DateRange q1 = FiscalQuarterDateRange.quarter(2027, 1, Month.JULY);
+    assertEquals(LocalDate.of(2026, 7, 1), q1.getStartDate());
+    assertEquals(LocalDate.of(2026, 9, 30), q1.getEndDate());
+    assertEquals(2027, FiscalQuarterDateRange.fiscalYearOf(LocalDate.of(2026, 7, 1), Month.JULY));
+    assertEquals(2026, FiscalQuarterDateRange.fiscalYearOf(LocalDate.of(2026, 6, 30), Month.JULY));
+    assertEquals(q3, q1.nextN(2));
+  }
+
+  @Test
+  void januaryFiscalYearMatchesCalendarQuarters() {
+    DateRange q4 = FiscalQuarterDateRange.containing(LocalDate.of(2025, 11, 5), Month.JANUARY);
+    assertEquals(LocalDate.of(2025, 10, 1), q4.getStartDate());
+    assertEquals(LocalDate.of(2025, 12, 31), q4.getEndDate());
+    assertEquals(
+        2025, FiscalQuarterDateRange.fiscalYearOf(LocalDate.of(2025, 11, 5), Month.JANUARY));
+    assertEquals(4, FiscalQuarterDateRange.quarterOf(LocalDate.of(2025, 11, 5), Month.JANUARY));
+    assertEquals(LocalDate.of(2026, 1, 1), q4.next().getStartDate());
+  }
+
+  @Test
+  void quartersCoveringListsEveryQuarterInSpan() {
+    List<DateRange> quarters =
+        FiscalQuarterDateRange.quartersCovering(
+            LocalDate.of(2024, 8, 15), LocalDate.of(2025, 9, 1), Month.OCTOBER);
+
+    assertEquals(
+        List.of(
+            LocalDate.of(2024, 7, 1),
+            LocalDate.of(2024, 10, 1),
+            LocalDate.of(2025, 1, 1),
+            LocalDate.of(2025, 4, 1),
+            LocalDate.of(2025, 7, 1)),
+        quarters.stream().map(DateRange::getStartDate).toList());
+    assertEquals(
+        4, FiscalQuarterDateRange.quarterOf(quarters.get(0).getStartDate(), Month.OCTOBER));
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> FiscalQuarterDateRange.quarter(2025, 5, Month.JANUARY));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            FiscalQuarterDateRange.quartersCovering(
+                LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1), Month.JANUARY));
+  }
+}
@@ -3,8 +3,10 @@ package com.stano.daterange;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MonthlyDateRangeTest {
 
@@ -51,4 +53,170 @@ class MonthlyDateRangeTest {
     assertEquals(LocalDate.of(2023, 4, 20), next.getEndDate());
     assertEquals(21, next.startDay().get());
   }
+
+  @Test
+  void rangeContainingDateFindsDistantMonthsDirectly() {
+    DateRange dr = MonthlyDateRange.withEndDateAndStartDay(LocalDate.of(2023, 3, 20), 21);
+
+    DateRange future = dr.rangeContainingDate(LocalDate.of(2033, 7, 21));
+    assertEquals(LocalDate.of(2033, 7, 21), future.getStartDate());
+    assertEquals(LocalDate.of(2033, 8, 20), future.getEndDate());
+    assertEquals(21, future.startDay().get());
+
+    DateRange past = dr.rangeContainingDate(LocalDate.of(2013, 1, 20));
+    assertEquals(LocalDate.of(2012, 12, 21), past.getStartDate());
+    assertEquals(LocalDate.of(2013, 1, 20), past.getEndDate());
+  }
+
+  @Test
+  void startDayPastEndOfShortMonthsClampsWithoutDrifting() {
+    DateRange dr = MonthlyDateRange.withEndDateAndStartDay(LocalDate.of(2023, 1, 30), 31);
+    assertEquals(LocalDate.of(2022, 12, 31), dr.getStartDate());
+
+    DateRange feb = dr.next();
+    assertEquals(LocalDate.of(2023, 1, 31), feb.getStartDate());
+    assertEquals(LocalDate.of(2023, 2, 27), feb.getEndDate());
+
+    DateRange mar = feb.next();
+    assertEquals(LocalDate.of(2023, 2, 28), mar.getStartDate());
+    assertEquals(LocalDate.of(2023, 3, 30), mar.getEndDate());
+
+    DateRange apr = mar.next();
+    assertEquals(LocalDate.of(2023, 3, 31), apr.getStartDate());
+    assertEquals(LocalDate.of(2023, 4, 29), apr.getEndDate());
+
+    assertEquals(feb, apr.rangeContainingDate(LocalDate.of(2023, 2, 1)));
+    assertEquals(mar, dr.rangeContainingDate(LocalDate.of(2023, 3, 30)));
+  }
+
+  @Test
+  void nextNAndPriorNJumpDirectlyToTargetMonth() {
+    DateRange dr = MonthlyDateRange.withEndDateAndStartDay(LocalDate.of(2023, 3, 20), 21);
+
+    DateRange ahead = dr.nextN(121);
+    assertEquals(LocalDate.of(2033, 3, 21), ahead.getStartDate());
+    assertEquals(LocalDate.of(2033, 4, 20), ahead.getEndDate());
+    assertEquals(21, ahead.startDay().get());
+    assertEquals(dr, ahead.priorN(121));
+
+    DateRange calendar = MonthlyDateRange.withEndDateOnFirst(LocalDate.of(2023, 3, 31));
+    DateRange back = calendar.priorN(13);
+    assertEquals(LocalDate.of(2022, 2, 1), back.getStartDate());
+    assertEquals(LocalDate.of(2022, 2, 28), back.getEndDate());
+  }
+
+  @Test
+  void alignedEndDateUsesPeriodFromBoundaryTable() {
+    DateRange dr = MonthlyDateRange.withEndDateAndStartDay(LocalDate.of(2023, 2, 27), 31);
+    assertEquals(LocalDate.of(2023, 1, 31), dr.getStartDate());
+    assertEquals(dr, dr.prior().next());
+
+    // end dates that do not close a period keep the one-month-back start
+    DateRange unaligned = MonthlyDateRange.withEndDateAndStartDay(LocalDate.of(2023, 3, 10), 15);
+    assertEquals(LocalDate.of(2023, 2, 11), unaligned.getStartDate());
+  }
+
+  @Test
+  void offGridSeedNavigatesFromItsOwnBoundaries() {
+    DateRange seed = MonthlyDateRange.withEndDateAndStartDay(LocalDate.of(2023, 5, 15), 21);
+    assertEquals(LocalDate.of(2023, 4, 16), seed.getStartDate());
+
+    DateRange next = seed.next();
+    assertEquals(LocalDate.of(2023, 5, 16), next.getStartDate());
+    assertEquals(LocalDate.of(2023, 5, 20), next.getEndDate());
+    assertEquals(LocalDate.of(2023, 5, 21), next.next().getStartDate());
+    assertEquals(next.next(), seed.nextN(2));
+
+    DateRange prior = seed.prior();
+    assertEquals(LocalDate.of(2023, 3, 21), prior.getStartDate());
+    assertEquals(LocalDate.of(2023, 4, 15), prior.getEndDate());
+    assertEquals(prior.prior(), seed.priorN(2));
+    assertEquals(21, next.startDay().get());
+
+    DateRange january = MonthlyDateRange.withEndDateAndStartDay(LocalDate.of(2023, 1, 31), 15);
+    assertEquals(LocalDate.of(2023, 2, 1), january.next().getStartDate());
+    assertEquals(LocalDate.of(2023, 2, 14), january.next().getEndDate());
+
+    List<DateRange> covering =
+        seed.rangesContainingSpan(LocalDate.of(2023, 5, 1), LocalDate.of(2023, 7, 1));
+    assertEquals(4, covering.size());
+    for (int i = 1; i < covering.size(); i++) {
+      assertEquals(
+          covering.get(i - 1).getEndDate().plusDays(1), covering.get(i).getStartDate());
+    }
+  }
+
+  @Test
+  void boundaryCacheCountsHitsAndMissesAndStaysBounded() {
+    MonthlyDateRange.clearBoundaryCache();
+    DateRange dr = MonthlyDateRange.withEndDateAndStartDay(LocalDate.of(2023, 3, 16), 17);
+    long misses = MonthlyDateRange.boundaryCacheMisses();
+    assertTrue(misses >= 1);
+
+    long hits = MonthlyDateRange.boundaryCacheHits();
+    dr.next().next();
+    assertEquals(misses, MonthlyDateRange.boundaryCacheMisses());
+    assertTrue(MonthlyDateRange.boundaryCacheHits() > hits);
+
+    dr.nextN(12 * 1000);
+    dr.rangesAfter(12 * 1000).forEach(DateRange::getStartDate);
+    assertTrue(MonthlyDateRange.boundaryCacheSize() <= 512);
+    assertTrue(MonthlyDateRange.boundaryCacheMisses() > misses);
+
+    // years beyond the cached range are computed directly
+    DateRange far = dr.rangeContainingDate(LocalDate.of(6_000_000, 3, 5));
+    assertEquals(LocalDate.of(6_000_000, 2, 17), far.getStartDate());
+    assertEquals(LocalDate.of(6_000_000, 3, 16), far.getEndDate());
+  }
+
+  @Test
+  void periodIndexOfAndRangeAtRoundTrip() {
+    long index = MonthlyDateRange.periodIndexOf(LocalDate.of(2024, 3, 10), 15);
+    assertEquals(2024 * 12 + 1, index);
+    assertEquals(index + 1, MonthlyDateRange.periodIndexOf(LocalDate.of(2024, 3, 15), 15));
+
+    DateRange range = MonthlyDateRange.rangeAt(index, 15);
+    assertEquals(MonthlyDateRange.withEndDateAndStartDay(LocalDate.of(2024, 3, 14), 15), range);
+    assertEquals(MonthlyDateRange.rangeAt(index - 1, 15), range.prior());
+  }
+
+  @Test
+  void nextAndPriorAreContiguousForEveryEndDateAndStartDay() {
+    for (LocalDate end = LocalDate.of(2022, 1, 1); end.getYear() < 2026; end = end.plusDays(1)) {
+      assertContiguous(MonthlyDateRange.withEndDateOnFirst(end));
+      for (int startDay = 1; startDay <= 31; startDay++) {
+        assertContiguous(MonthlyDateRange.withEndDateAndStartDay(end, startDay));
+      }
+    }
+  }
+
+  @Test
+  void rangeContainingDateFollowsNavigationFromOffGridSeed() {
+    DateRange seed = MonthlyDateRange.withEndDateAndStartDay(LocalDate.of(2023, 4, 10), 21);
+    assertEquals(LocalDate.of(2023, 3, 11), seed.getStartDate());
+
+    DateRange after = seed.rangeContainingDate(LocalDate.of(2023, 4, 15));
+    assertEquals(seed.next(), after);
+    assertEquals(LocalDate.of(2023, 4, 11), after.getStartDate());
+    assertEquals(LocalDate.of(2023, 4, 20), after.getEndDate());
+
+    DateRange before = seed.rangeContainingDate(LocalDate.of(2023, 3, 1));
+    assertEquals(seed.prior(), before);
+    assertEquals(LocalDate.of(2023, 2, 21), before.getStartDate());
+    assertEquals(LocalDate.of(2023, 3, 10), before.getEndDate());
+
+    DateRange later = seed.rangeContainingDate(LocalDate.of(2023, 6, 1));
+    assertEquals(LocalDate.of(2023, 5, 21), later.getStartDate());
+  }
+  private static void assertContiguous(DateRange seed) {
+    String message = seed.getStartDate() + " to " + seed.getEndDate();
+    DateRange next = seed.next();
+    DateRange prior = seed.prior();
+    assertEquals(seed.getEndDate().plusDays(1), next.getStartDate(), message);
+    assertEquals(seed.getStartDate().minusDays(1), prior.getEndDate(), message);
+    assertEquals(next.getEndDate().plusDays(1), next.next().getStartDate(), message);
+    assertEquals(prior.getStartDate().minusDays(1), prior.prior().getEndDate(), message);
+    assertEquals(next, seed.rangeContainingDate(next.getEndDate()), message);
+    assertEquals(prior, seed.rangeContainingDate(prior.getStartDate()), message);
+  }
 }
@@ -0,0 +1,108 @@
+package com.stano.daterange;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedDateRangeArrayTest {
+
+  @Test
+  void packAndUnpackRoundTripIncludingDatesBeforeEpoch() {
+    DateRange dr = DateRange.of(LocalDate.of(1969, 12, 25), LocalDate.of(1970, 1, 5));
+
+    long packed = PackedDateRangeArray.pack(dr);
+
+    assertEquals(dr.startEpochDay(), PackedDateRangeArray.startEpochDay(packed));
+    assertEquals(dr.endEpochDay(), PackedDateRangeArray.endEpochDay(packed));
+    assertEquals(dr, PackedDateRangeArray.unpack(packed));
+
+    assertThrows(IllegalArgumentException.class, () -> PackedDateRangeArray.pack(5, 4));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PackedDateRangeArray.pack(0, Integer.MAX_VALUE + 1L));
+  }
+
+  @Test
+  void packedValuesSortByStartThenEnd() {
+    long a = PackedDateRangeArray.pack(-10, -5);
+    long b = PackedDateRangeArray.pack(-10, 3);
+    long c = PackedDateRangeArray.pack(-9, -9);
+    long d = PackedDateRangeArray.pack(0, 0);
+
+    assertTrue(a < b);
+    assertTrue(b < c);
+    assertTrue(c < d);
+  }
+
+  @Test
+  void ofAndToListPreserveOrderAndGetCreatesRangesOnDemand() {
+    List<DateRange> ranges =
+        List.of(
+            DateRange.of(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)),
+            DateRange.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)),
+            DateRange.of(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29)));
+
+    PackedDateRangeArray array = PackedDateRangeArray.of(ranges);
+
+    assertEquals(3, array.size());
+    assertEquals(ranges, array.toList());
+    assertEquals(ranges.get(1), array.get(1));
+    assertEquals(LocalDate.of(2024, 2, 1).toEpochDay(), array.startEpochDay(2));
+    assertEquals(LocalDate.of(2024, 2, 29).toEpochDay(), array.endEpochDay(2));
+    assertEquals(array, PackedDateRangeArray.ofPacked(array.toPackedArray()));
+    assertEquals(array.hashCode(), PackedDateRangeArray.ofPacked(array.toPackedArray()).hashCode());
+
+    List<DateRange> iterated = new ArrayList<>();
+    for (DateRange dr : array) {
+      iterated.add(dr);
+    }
+    assertEquals(ranges, iterated);
+  }
+
+  @Test
+  void containsDateAndOverlapsWorkOnPackedValues() {
+    PackedDateRangeArray array =
+        PackedDateRangeArray.of(
+            List.of(DateRange.of(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 20))));
+
+    assertTrue(array.containsDate(0, LocalDate.of(2024, 1, 10)));
+    assertTrue(array.containsDate(0, LocalDate.of(2024, 1, 20)));
+    assertFalse(array.containsDate(0, LocalDate.of(2024, 1, 21)));
+
+    assertTrue(
+        array.overlaps(0, DateRange.of(LocalDate.of(2024, 1, 20), LocalDate.of(2024, 2, 1))));
+    assertFalse(
+        array.overlaps(0, DateRange.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 9))));
+  }
+
+  @Test
+  void sortedAndBinarySearchByStart() {
+    PackedDateRangeArray array =
+        PackedDateRangeArray.of(
+                List.of(
+                    DateRange.of(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)),
+                    DateRange.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)),
+                    DateRange.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 5)),
+                    DateRange.of(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29))))
+            .sorted();
+
+    assertTrue(array.isSorted());
+    assertEquals(LocalDate.of(2024, 1, 5), array.get(0).getEndDate());
+    assertEquals(0, array.binarySearchByStart(LocalDate.of(2024, 1, 1)));
+    assertEquals(2, array.binarySearchByStart(LocalDate.of(2024, 2, 1)));
+    assertEquals(-3, array.binarySearchByStart(LocalDate.of(2024, 1, 15)));
+    assertEquals(-5, array.binarySearchByStart(LocalDate.of(2024, 4, 1)));
+    assertEquals(-1, array.binarySearchByStart(LocalDate.of(2023, 12, 31)));
+  }
+
+  @Test
+  void ofPackedRejectsInvalidValues() {
+    long invalid = (5L << 32); // start 5, end far before it
+    assertThrows(
+        IllegalArgumentException.class, () -> PackedDateRangeArray.ofPacked(new long[] {invalid}));
+  }
+}
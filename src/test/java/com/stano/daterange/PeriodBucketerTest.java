@@ -0,0 +1,140 @@
+package com.stano.daterange;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PeriodBucketerTest {
+  private static final LocalDate FROM = LocalDate.of(1899, 12, 1);
+  private static final LocalDate TO = LocalDate.of(2101, 3, 31);
+
+  @Test
+  void weeklyAndBiWeeklyMatchFactoryIndexes() {
+    int[] days = epochDays(FROM, TO);
+    long[] weekly = new long[days.length];
+    long[] biWeekly = new long[days.length];
+    LocalDate anchor = LocalDate.of(2024, 1, 1); // a Monday
+
+    PeriodBucketer.of(DateRangeType.WEEKLY, anchor).bucket(days, weekly);
+    PeriodBucketer.of(DateRangeType.BI_WEEKLY, anchor).bucket(days, biWeekly);
+
+    for (int i = 0; i < days.length; i++) {
+      LocalDate date = LocalDate.ofEpochDay(days[i]);
+      assertEquals(WeeklyDateRange.periodIndexOf(date, DayOfWeek.SUNDAY), weekly[i]);
+      assertEquals(BiWeeklyDateRange.periodIndexOf(date, anchor), biWeekly[i]);
+    }
+  }
+
+  @Test
+  void semiMonthlyMatchesFactoryIndexes() {
+    int[] days = epochDays(FROM, TO);
+    long[] out = new long[days.length];
+
+    PeriodBucketer.of(DateRangeType.SEMI_MONTHLY, null).bucket(days, out);
+
+    for (int i = 0; i < days.length; i++) {
+      assertEquals(SemiMonthlyDateRange.periodIndexOf(LocalDate.ofEpochDay(days[i])), out[i]);
+    }
+  }
+
+  @Test
+  void monthlyMatchesFactoryIndexesForEveryStartDay() {
+    int[] days = epochDays(LocalDate.of(1999, 12, 1), LocalDate.of(2005, 3, 31));
+    long[] out = new long[days.length];
+
+    for (int startDay = 1; startDay <= 31; startDay++) {
+      LocalDate anchor = LocalDate.of(2024, 1, startDay);
+      PeriodBucketer.of(DateRangeType.MONTHLY, anchor).bucket(days, out);
+      for (int i = 0; i < days.length; i++) {
+        LocalDate date = LocalDate.ofEpochDay(days[i]);
+        assertEquals(MonthlyDateRange.periodIndexOf(date, startDay), out[i], date.toString());
+      }
+    }
+  }
+
+  @Test
+  void multiMonthTypesMatchDateRangeTypeRanges() {
+    int[] days = epochDays(LocalDate.of(2019, 1, 1), LocalDate.of(2026, 12, 31));
+    long[] out = new long[days.length];
+    PeriodAnchor anchor = PeriodAnchor.startingOn(LocalDate.of(2020, 2, 29));
+
+    for (DateRangeType type :
+        List.of(DateRangeType.QUARTERLY, DateRangeType.SEMI_ANNUAL, DateRangeType.ANNUAL)) {
+      PeriodBucketer.of(type, anchor.getStartDate()).bucket(days, out);
+      for (int i = 1; i < days.length; i++) {
+        LocalDate date = LocalDate.ofEpochDay(days[i]);
+        boolean samePeriod = type.rangeContaining(date, anchor).containsDate(date.minusDays(1));
+        assertEquals(samePeriod ? out[i - 1] : out[i - 1] + 1, out[i], date.toString());
+      }
+    }
+    assertEquals(
+        AnnualDateRange.periodIndexOf(LocalDate.of(2024, 3, 1), LocalDate.of(2020, 2, 29)),
+        PeriodBucketer.of(DateRangeType.ANNUAL, LocalDate.of(2020, 2, 29))
+            .indexOf(LocalDate.of(2024, 3, 1).toEpochDay()));
+  }
+
+  @Test
+  void longAndLocalDateInputsMatchIntInput() {
+    int[] days = epochDays(LocalDate.of(-400, 1, 1), LocalDate.of(-390, 1, 1));
+    long[] longDays = new long[days.length];
+    LocalDate[] dates = new LocalDate[days.length];
+    for (int i = 0; i < days.length; i++) {
+      longDays[i] = days[i];
+      dates[i] = LocalDate.ofEpochDay(days[i]);
+    }
+    PeriodBucketer bucketer = PeriodBucketer.of(DateRangeType.MONTHLY, LocalDate.of(2024, 1, 31));
+
+    long[] expected = new long[days.length];
+    long[] fromLongs = new long[days.length];
+    long[] fromDates = new long[days.length];
+    bucketer.bucket(days, expected);
+    bucketer.bucket(longDays, fromLongs);
+    bucketer.bucket(dates, fromDates);
+
+    assertArrayEquals(expected, fromLongs);
+    assertArrayEquals(expected, fromDates);
+    assertEquals(MonthlyDateRange.periodIndexOf(dates[0], 31), expected[0]);
+    assertEquals(expected[5], bucketer.indexOf(longDays[5]));
+  }
+
+  @Test
+  void parallelBucketingMatchesSequential() {
+    int[] days = new int[200_000];
+    for (int i = 0; i < days.length; i++) {
+      days[i] = (int) ((i * 7919L) % 80_000) - 20_000;
+    }
+    PeriodBucketer bucketer = PeriodBucketer.of(DateRangeType.SEMI_MONTHLY, null);
+    long[] sequential = new long[days.length];
+    long[] parallel = new long[days.length];
+
+    bucketer.bucket(days, sequential);
+    bucketer.withParallelThreshold(1).bucket(days, parallel);
+
+    assertArrayEquals(sequential, parallel);
+  }
+
+  @Test
+  void rejectsMissingArgumentsAndShortOutput() {
+    assertThrows(IllegalArgumentException.class, () -> PeriodBucketer.of(null, LocalDate.now()));
+    assertThrows(
+        IllegalArgumentException.class, () -> PeriodBucketer.of(DateRangeType.WEEKLY, null));
+    PeriodBucketer bucketer = PeriodBucketer.of(DateRangeType.SEMI_MONTHLY, null);
+    assertThrows(IllegalArgumentException.class, () -> bucketer.bucket(new int[3], new long[2]));
+    assertThrows(IllegalArgumentException.class, () -> bucketer.withParallelThreshold(0));
+  }
+
+  private static int[] epochDays(LocalDate from, LocalDate to) {
+    int start = (int) from.toEpochDay();
+    int[] days = new int[(int) (to.toEpochDay() - start) + 1];
+    for (int i = 0; i < days.length; i++) {
+      days[i] = start + i;
+    }
+    return days;
+  }
+}
@@ -0,0 +1,106 @@
+package com.stano.daterange;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PeriodSequenceTest {
+
+  @Test
+  void matchesTypeSequenceForEveryType() {
+    LocalDate from = LocalDate.of(1999, 11, 20);
+    LocalDate to = LocalDate.of(2004, 3, 2);
+    PeriodAnchor anchor = PeriodAnchor.startingOn(LocalDate.of(2000, 1, 31));
+
+    for (DateRangeType type : DateRangeType.values()) {
+      PeriodSequence sequence = PeriodSequence.of(type, anchor, from, to);
+      List<DateRange> expected = type.sequence(from, to, anchor);
+
+      assertEquals(expected.size(), sequence.size(), type.name());
+      assertEquals(expected, sequence.ranges(), type.name());
+      int[] starts = sequence.startEpochDays();
+      int[] ends = sequence.endEpochDays();
+      for (int i = 0; i < expected.size(); i++) {
+        assertEquals(expected.get(i).startEpochDay(), starts[i]);
+        assertEquals(expected.get(i).endEpochDay(), ends[i]);
+      }
+    }
+  }
+
+  @Test
+  void coversCenturyOfSemiMonthlyPeriods() {
+    PeriodSequence sequence =
+        PeriodSequence.of(
+            DateRangeType.SEMI_MONTHLY, null, LocalDate.of(1950, 1, 1), LocalDate.of(2049, 12, 31));
+
+    assertEquals(2400, sequence.size());
+    assertEquals(
+        SemiMonthlyDateRange.periodIndexOf(LocalDate.of(1950, 1, 1)), sequence.periodIndex(0));
+    assertEquals(LocalDate.of(2024, 2, 16).toEpochDay(), sequence.startEpochDay(1779));
+    assertEquals(LocalDate.of(2024, 2, 29).toEpochDay(), sequence.endEpochDay(1779));
+    assertEquals(
+        DateRange.of(LocalDate.of(2024, 2, 16), LocalDate.of(2024, 2, 29)), sequence.get(1779));
+  }
+
+  @Test
+  void positionOfFindsContainingPeriodByBinarySearch() {
+    PeriodAnchor sundays = PeriodAnchor.weeksEndingOn(DayOfWeek.SUNDAY);
+    PeriodSequence sequence =
+        PeriodSequence.of(
+            DateRangeType.WEEKLY, sundays, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31));
+
+    assertEquals(5, sequence.size());
+    assertEquals(LocalDate.of(2024, 12, 30).toEpochDay(), sequence.startEpochDay(0));
+    assertEquals(0, sequence.positionOf(LocalDate.of(2024, 12, 30)));
+    assertEquals(0, sequence.positionOf(LocalDate.of(2025, 1, 5)));
+    assertEquals(1, sequence.positionOf(LocalDate.of(2025, 1, 6)));
+    assertEquals(4, sequence.positionOf(LocalDate.of(2025, 2, 2)));
+    assertEquals(-1, sequence.positionOf(LocalDate.of(2024, 12, 29)));
+    assertEquals(-1, sequence.positionOf(LocalDate.of(2025, 2, 3)));
+
+    DateRange week = sequence.get(sequence.positionOf(LocalDate.of(2025, 1, 15)));
+    assertEquals(LocalDate.of(2025, 1, 19), week.getEndDate());
+    assertEquals(LocalDate.of(2025, 1, 20), week.next().getStartDate());
+  }
+
+  @Test
+  void memoizesSequencesForTheSamePeriods() {
+    PeriodAnchor fifteenth = PeriodAnchor.monthsStartingOn(15);
+    PeriodSequence first =
+        PeriodSequence.of(
+            DateRangeType.MONTHLY, fifteenth, LocalDate.of(2020, 1, 20), LocalDate.of(2030, 1, 1));
+    PeriodSequence second =
+        PeriodSequence.of(
+            DateRangeType.MONTHLY,
+            PeriodAnchor.startingOn(LocalDate.of(2021, 6, 15)),
+            LocalDate.of(2020, 2, 1),
+            LocalDate.of(2030, 1, 14));
+
+    assertSame(first, second);
+    assertArrayEquals(first.startEpochDays(), second.startEpochDays());
+  }
+
+  @Test
+  void rejectsInvalidArguments() {
+    LocalDate date = LocalDate.of(2025, 1, 1);
+
+    assertThrows(
+        IllegalArgumentException.class, () -> PeriodSequence.of(null, null, date, date));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PeriodSequence.of(DateRangeType.SEMI_MONTHLY, null, date, date.minusDays(1)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PeriodSequence.of(DateRangeType.MONTHLY, null, date, date));
+
+    PeriodSequence sequence = PeriodSequence.of(DateRangeType.SEMI_MONTHLY, null, date, date);
+    assertThrows(IndexOutOfBoundsException.class, () -> sequence.get(1));
+  }
+}
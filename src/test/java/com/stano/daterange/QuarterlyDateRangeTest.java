@@ -23,4 +23,58 @@ class QuarterlyDateRangeTest {
     assertEquals(LocalDate.of(2023, 7, 1), s.next().getStartDate());
     assertEquals(LocalDate.of(2023, 9, 30), s.next().getEndDate());
   }
+
+  @Test
+  void rangeContainingDateKeepsQuartersAlignedToStartMonth() {
+    DateRange s = QuarterlyDateRange.withStartDate(LocalDate.of(2023, 2, 10)); // Feb..Apr
+
+    DateRange future = s.rangeContainingDate(LocalDate.of(2040, 1, 31));
+    assertEquals(LocalDate.of(2039, 11, 1), future.getStartDate());
+    assertEquals(LocalDate.of(2040, 1, 31), future.getEndDate());
+
+    DateRange past = s.rangeContainingDate(LocalDate.of(2001, 5, 1));
+    assertEquals(LocalDate.of(2001, 5, 1), past.getStartDate());
+    assertEquals(LocalDate.of(2001, 7, 31), past.getEndDate());
+  }
+
+  @Test
+  void nextNAndPriorNJumpWholeQuarters() {
+    DateRange s = QuarterlyDateRange.withStartDate(LocalDate.of(2023, 4, 10));
+
+    assertEquals(LocalDate.of(2048, 4, 1), s.nextN(100).getStartDate());
+    assertEquals(LocalDate.of(2048, 6, 30), s.nextN(100).getEndDate());
+    assertEquals(LocalDate.of(2022, 10, 1), s.priorN(2).getStartDate());
+    assertEquals(LocalDate.of(2022, 12, 31), s.priorN(2).getEndDate());
+  }
+
+  @Test
+  void periodIndexOfAndRangeAtRoundTrip() {
+    LocalDate anchor = LocalDate.of(2024, 1, 20);
+    long index = QuarterlyDateRange.periodIndexOf(LocalDate.of(2024, 5, 5), anchor);
+    assertEquals(8097, index);
+    assertEquals(index + 1, QuarterlyDateRange.periodIndexOf(LocalDate.of(2024, 7, 1), anchor));
+
+    assertEquals(
+        QuarterlyDateRange.withStartDate(LocalDate.of(2024, 4, 15)),
+        QuarterlyDateRange.rangeAt(index, anchor));
+  }
+
+  @Test
+  void nextAndPriorAreContiguousForEveryDate() {
+    for (LocalDate day = LocalDate.of(2022, 1, 1); day.getYear() < 2026; day = day.plusDays(1)) {
+      assertContiguous(QuarterlyDateRange.withStartDate(day));
+      assertContiguous(QuarterlyDateRange.withEndDate(day));
+    }
+  }
+  private static void assertContiguous(DateRange seed) {
+    String message = seed.getStartDate() + " to " + seed.getEndDate();
+    DateRange next = seed.next();
+    DateRange prior = seed.prior();
+    assertEquals(seed.getEndDate().plusDays(1), next.getStartDate(), message);
+    assertEquals(seed.getStartDate().minusDays(1), prior.getEndDate(), message);
+    assertEquals(next.getEndDate().plusDays(1), next.next().getStartDate(), message);
+    assertEquals(prior.getStartDate().minusDays(1), prior.prior().getEndDate(), message);
+    assertEquals(next, seed.rangeContainingDate(next.getEndDate()), message);
+    assertEquals(prior, seed.rangeContainingDate(prior.getStartDate()), message);
+  }
 }
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class SemiAnnualDateRangeTest {
 
@@ -23,4 +24,113 @@ class SemiAnnualDateRangeTest {
     assertEquals(LocalDate.of(2022, 8, 1), s.prior().getStartDate());
     assertEquals(LocalDate.of(2023, 1, 31), s.prior().getEndDate());
   }
+
+  @Test
+  void navigationKeepsStartDayAtMonthEndWithoutDrifting() {
+    DateRange s = SemiAnnualDateRange.withStartDate(LocalDate.of(2023, 8, 31));
+    assertEquals(LocalDate.of(2024, 2, 28), s.getEndDate());
+
+    DateRange n1 = s.next();
+    assertEquals(LocalDate.of(2024, 2, 29), n1.getStartDate());
+    assertEquals(LocalDate.of(2024, 8, 30), n1.getEndDate());
+
+    DateRange n2 = n1.next();
+    assertEquals(LocalDate.of(2024, 8, 31), n2.getStartDate());
+    assertEquals(LocalDate.of(2025, 2, 27), n2.getEndDate());
+
+    DateRange far = s.rangeContainingDate(LocalDate.of(2043, 3, 1));
+    assertEquals(LocalDate.of(2043, 2, 28), far.getStartDate());
+    assertEquals(LocalDate.of(2043, 8, 30), far.getEndDate());
+  }
+
+  @Test
+  void nextNAndPriorNJumpWholeHalfYears() {
+    DateRange s = SemiAnnualDateRange.withStartDate(LocalDate.of(2023, 2, 1));
+
+    assertEquals(LocalDate.of(2033, 8, 1), s.nextN(21).getStartDate());
+    assertEquals(LocalDate.of(2034, 1, 31), s.nextN(21).getEndDate());
+    assertEquals(LocalDate.of(2013, 2, 1), s.priorN(20).getStartDate());
+    assertEquals(LocalDate.of(2013, 7, 31), s.priorN(20).getEndDate());
+  }
+
+  @Test
+  void periodIndexOfAndRangeAtRoundTrip() {
+    LocalDate anchor = LocalDate.of(2024, 1, 15);
+    long index = SemiAnnualDateRange.periodIndexOf(LocalDate.of(2024, 7, 10), anchor);
+    assertEquals(4048, index);
+    assertEquals(index, SemiAnnualDateRange.periodIndexOf(anchor, anchor));
+    assertEquals(index + 1, SemiAnnualDateRange.periodIndexOf(LocalDate.of(2024, 7, 15), anchor));
+
+    assertEquals(
+        SemiAnnualDateRange.withStartDate(anchor), SemiAnnualDateRange.rangeAt(index, anchor));
+  }
+
+  @Test
+  void leapDayPolicyPlacesMonthEndStarts() {
+    LocalDate anchor = LocalDate.of(2023, 8, 31);
+
+    DateRange rolled =
+        SemiAnnualDateRange.withStartDate(anchor, LeapDayPolicy.FIRST_DAY_OF_NEXT_MONTH);
+    assertEquals(LocalDate.of(2024, 2, 29), rolled.getEndDate());
+    assertEquals(LocalDate.of(2024, 3, 1), rolled.next().getStartDate());
+    assertEquals(LocalDate.of(2024, 8, 31), rolled.nextN(2).getStartDate());
+
+    DateRange drifted = SemiAnnualDateRange.withStartDate(anchor, LeapDayPolicy.DRIFT);
+    assertEquals(LocalDate.of(2024, 2, 29), drifted.next().getStartDate());
+    assertEquals(LocalDate.of(2024, 8, 29), drifted.nextN(2).getStartDate());
+    assertEquals(LocalDate.of(2025, 2, 28), drifted.nextN(3).getStartDate());
+    assertEquals(LocalDate.of(2025, 8, 28), drifted.nextN(4).getStartDate());
+    assertEquals(LocalDate.of(2053, 8, 28), drifted.nextN(60).getStartDate());
+    assertEquals(LocalDate.of(2023, 2, 28), drifted.prior().getStartDate());
+
+    LocalDate date = LocalDate.of(2053, 9, 1);
+    long index = SemiAnnualDateRange.periodIndexOf(date, anchor, LeapDayPolicy.DRIFT);
+    DateRange far = SemiAnnualDateRange.rangeAt(index, anchor, LeapDayPolicy.DRIFT);
+    assertEquals(drifted.nextN(60), far);
+  }
+
+  @Test
+  void withEndDateOnMonthEndDoesNotDrift() {
+    DateRange range = SemiAnnualDateRange.withEndDate(LocalDate.of(2022, 2, 28));
+    assertEquals(LocalDate.of(2021, 9, 1), range.getStartDate());
+    assertEquals(LocalDate.of(2022, 3, 1), range.next().getStartDate());
+    assertEquals(LocalDate.of(2022, 8, 31), range.next().getEndDate());
+  }
+
+  @Test
+  void nextAndPriorAreContiguousForEveryDate() {
+    for (LocalDate day = LocalDate.of(2022, 1, 1); day.getYear() < 2026; day = day.plusDays(1)) {
+      assertContiguous(SemiAnnualDateRange.withStartDate(day));
+      assertContiguous(SemiAnnualDateRange.withEndDate(day));
+      assertEquals(day, SemiAnnualDateRange.withStartDate(day).getStartDate());
+      assertEquals(day, SemiAnnualDateRange.withEndDate(day).getEndDate());
+    }
+  }
+
+  @Test
+  void sameRangeYearsAgoJumpsTwoHalvesPerYear() {
+    DateRange range = SemiAnnualDateRange.withStartDate(LocalDate.of(2024, 7, 1));
+
+    DateRange fiveYearsAgo = SemiAnnualDateRange.sameRangeYearsAgo(range, 5);
+    assertEquals(LocalDate.of(2019, 7, 1), fiveYearsAgo.getStartDate());
+    assertEquals(LocalDate.of(2019, 12, 31), fiveYearsAgo.getEndDate());
+
+    DateRange year = AnnualDateRange.withStartDate(LocalDate.of(2024, 7, 1));
+    assertThrows(
+        IllegalArgumentException.class, () -> SemiAnnualDateRange.sameRangeYearsAgo(year, 5));
+    assertThrows(
+        IllegalArgumentException.class, () -> SemiAnnualDateRange.sameRangeYearsAgo(null, 5));
+  }
+
+  private static void assertContiguous(DateRange seed) {
+    String message = seed.getStartDate() + " to " + seed.getEndDate();
+    DateRange next = seed.next();
+    DateRange prior = seed.prior();
+    assertEquals(seed.getEndDate().plusDays(1), next.getStartDate(), message);
+    assertEquals(seed.getStartDate().minusDays(1), prior.getEndDate(), message);
+    assertEquals(next.getEndDate().plusDays(1), next.next().getStartDate(), message);
+    assertEquals(prior.getStartDate().minusDays(1), prior.prior().getEndDate(), message);
+    assertEquals(next, seed.rangeContainingDate(next.getEndDate()), message);
+    assertEquals(prior, seed.rangeContainingDate(prior.getStartDate()), message);
+  }
 }
@@ -59,4 +59,89 @@ class SemiMonthlyDateRangeTest {
     assertEquals(LocalDate.of(2025, 1, 1), janFirstHalf.getStartDate());
     assertEquals(LocalDate.of(2025, 1, 15), janFirstHalf.getEndDate());
   }
+
+  @Test
+  void rangeContainingDateFindsDistantHalvesDirectly() {
+    DateRange dr = SemiMonthlyDateRange.withEndDate(LocalDate.of(2024, 5, 15));
+
+    DateRange future = dr.rangeContainingDate(LocalDate.of(2034, 2, 20));
+    assertEquals(LocalDate.of(2034, 2, 16), future.getStartDate());
+    assertEquals(LocalDate.of(2034, 2, 28), future.getEndDate());
+
+    DateRange past = dr.rangeContainingDate(LocalDate.of(2014, 12, 15));
+    assertEquals(LocalDate.of(2014, 12, 1), past.getStartDate());
+    assertEquals(LocalDate.of(2014, 12, 15), past.getEndDate());
+    assertEquals(LocalDate.of(2014, 12, 16), past.next().getStartDate());
+  }
+
+  @Test
+  void nextNAndPriorNJumpAcrossYears() {
+    DateRange dr = SemiMonthlyDateRange.withEndDate(LocalDate.of(2024, 5, 31)); // 16..31
+
+    DateRange ahead = dr.nextN(25);
+    assertEquals(LocalDate.of(2025, 6, 1), ahead.getStartDate());
+    assertEquals(LocalDate.of(2025, 6, 15), ahead.getEndDate());
+
+    DateRange back = dr.priorN(9);
+    assertEquals(LocalDate.of(2024, 1, 1), back.getStartDate());
+    assertEquals(LocalDate.of(2024, 1, 15), back.getEndDate());
+  }
+
+  @Test
+  void periodIndexOfAndRangeAtRoundTrip() {
+    assertEquals(48580, SemiMonthlyDateRange.periodIndexOf(LocalDate.of(2024, 3, 15)));
+    assertEquals(48581, SemiMonthlyDateRange.periodIndexOf(LocalDate.of(2024, 3, 16)));
+
+    DateRange range = SemiMonthlyDateRange.rangeAt(48581);
+    assertEquals(LocalDate.of(2024, 3, 16), range.getStartDate());
+    assertEquals(LocalDate.of(2024, 3, 31), range.getEndDate());
+    assertEquals(SemiMonthlyDateRange.rangeAt(48582), range.next());
+  }
+
+  @Test
+  void secondHalfOfFebruaryEndsOnLeapDayOnlyInLeapYears() {
+    DateRange leap = SemiMonthlyDateRange.withEndDate(LocalDate.of(2024, 2, 15)).next();
+    assertEquals(LocalDate.of(2024, 2, 16), leap.getStartDate());
+    assertEquals(LocalDate.of(2024, 2, 29), leap.getEndDate());
+
+    DateRange common = leap.nextN(24);
+    assertEquals(LocalDate.of(2025, 2, 16), common.getStartDate());
+    assertEquals(LocalDate.of(2025, 2, 28), common.getEndDate());
+  }
+
+  @Test
+  void periodsBetweenCountsHalvesFromIndexes() {
+    assertEquals(
+        0,
+        SemiMonthlyDateRange.periodsBetween(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 15)));
+    assertEquals(
+        1,
+        SemiMonthlyDateRange.periodsBetween(LocalDate.of(2024, 3, 15), LocalDate.of(2024, 3, 16)));
+    assertEquals(
+        24 * 30 + 3,
+        SemiMonthlyDateRange.periodsBetween(LocalDate.of(1995, 1, 10), LocalDate.of(2025, 2, 20)));
+    assertEquals(
+        -3,
+        SemiMonthlyDateRange.periodsBetween(LocalDate.of(2024, 1, 2), LocalDate.of(2023, 11, 30)));
+  }
+
+  @Test
+  void nextAndPriorAreContiguousForEveryEndDate() {
+    for (LocalDate end = LocalDate.of(2022, 1, 1); end.getYear() < 2026; end = end.plusDays(1)) {
+      if (end.getDayOfMonth() >= 15) { // earlier days would start the range after its end
+        assertContiguous(SemiMonthlyDateRange.withEndDate(end));
+      }
+    }
+  }
+  private static void assertContiguous(DateRange seed) {
+    String message = seed.getStartDate() + " to " + seed.getEndDate();
+    DateRange next = seed.next();
+    DateRange prior = seed.prior();
+    assertEquals(seed.getEndDate().plusDays(1), next.getStartDate(), message);
+    assertEquals(seed.getStartDate().minusDays(1), prior.getEndDate(), message);
+    assertEquals(next.getEndDate().plusDays(1), next.next().getStartDate(), message);
+    assertEquals(prior.getStartDate().minusDays(1), prior.prior().getEndDate(), message);
+    assertEquals(next, seed.rangeContainingDate(next.getEndDate()), message);
+    assertEquals(prior, seed.rangeContainingDate(prior.getStartDate()), message);
+  }
 }
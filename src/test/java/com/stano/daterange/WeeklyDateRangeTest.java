@@ -64,4 +64,29 @@ class WeeklyDateRangeTest {
     assertEquals(LocalDate.of(2019, 1, 8), dr.next().getStartDate());
     assertEquals(LocalDate.of(2019, 1, 21), dr.nextN(2).getEndDate());
   }
+
+  @Test
+  void nextNAndPriorNJumpManyWeeks() {
+    DateRange dr = WeeklyDateRange.withEndDate(LocalDate.of(2019, 1, 7));
+
+    DateRange ahead = dr.nextN(520);
+    assertEquals(LocalDate.of(2028, 12, 19), ahead.getStartDate());
+    assertEquals(LocalDate.of(2028, 12, 25), ahead.getEndDate());
+    assertEquals(dr, ahead.priorN(520));
+  }
+
+  @Test
+  void periodIndexOfAndRangeAtRoundTrip() {
+    long index = WeeklyDateRange.periodIndexOf(LocalDate.of(2024, 1, 10), DayOfWeek.SUNDAY);
+    assertEquals(2818, index);
+    assertEquals(index, WeeklyDateRange.periodIndexOf(LocalDate.of(2024, 1, 14), DayOfWeek.SUNDAY));
+    assertEquals(
+        index + 1, WeeklyDateRange.periodIndexOf(LocalDate.of(2024, 1, 15), DayOfWeek.SUNDAY));
+    assertEquals(-1, WeeklyDateRange.periodIndexOf(LocalDate.of(1970, 1, 4), DayOfWeek.SUNDAY));
+
+    DateRange week = WeeklyDateRange.rangeAt(index, DayOfWeek.SUNDAY);
+    assertEquals(
+        WeeklyDateRange.withTargetDate(LocalDate.of(2024, 1, 10), DayOfWeek.SUNDAY), week);
+    assertEquals(WeeklyDateRange.rangeAt(index + 1, DayOfWeek.SUNDAY), week.next());
+  }
 }
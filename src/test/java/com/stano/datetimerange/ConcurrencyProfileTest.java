@@ -0,0 +1,126 @@
+package com.stano.datetimerange;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyProfileTest {
+
+  private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 10, 0, 0);
+
+  private static DateTimeRange minutes(int startOffset, int endOffset) {
+    return DateTimeRange.of(BASE.plusMinutes(startOffset), BASE.plusMinutes(endOffset));
+  }
+
+  private static long second(int minuteOffset) {
+    return BASE.plusMinutes(minuteOffset).toEpochSecond(ZoneOffset.UTC);
+  }
+
+  private static final List<DateTimeRange> SESSIONS =
+      List.of(minutes(540, 660), minutes(600, 720), minutes(660, 780));
+
+  @Test
+  void exclusiveEndsLetTouchingRangesHandOver() {
+    ConcurrencyProfile profile = ConcurrencyProfile.of(SESSIONS, true);
+
+    assertArrayEquals(
+        new long[] {second(540), second(600), second(720), second(780)}, profile.times());
+    assertArrayEquals(new int[] {1, 2, 1, 0}, profile.counts());
+    assertEquals(2, profile.peak());
+    assertEquals(0, profile.concurrencyAt(BASE.plusMinutes(539)));
+    assertEquals(1, profile.concurrencyAt(BASE.plusMinutes(540)));
+    assertEquals(2, profile.concurrencyAt(BASE.plusMinutes(660)));
+    assertEquals(1, profile.concurrencyAt(BASE.plusMinutes(779)));
+    assertEquals(0, profile.concurrencyAt(BASE.plusMinutes(780)));
+    assertArrayEquals(new long[] {0, 7200, 7200}, profile.histogram());
+    assertEquals(List.of(minutes(600, 720)), profile.intervalsExceeding(1));
+    assertEquals(List.of(), profile.intervalsExceeding(2));
+  }
+
+  @Test
+  void inclusiveEndsCountTouchingRangesAsConcurrent() {
+    ConcurrencyProfile profile = ConcurrencyProfile.builder(false).addAll(SESSIONS).build();
+
+    assertEquals(3, profile.peak());
+    assertEquals(3, profile.concurrencyAt(BASE.plusMinutes(660)));
+    assertEquals(2, profile.concurrencyAt(BASE.plusMinutes(660).plusSeconds(1)));
+    assertEquals(1, profile.concurrencyAt(BASE.plusMinutes(780)));
+    assertEquals(0, profile.concurrencyAt(BASE.plusMinutes(780).plusSeconds(1)));
+    assertEquals(List.of(minutes(660, 660)), profile.intervalsExceeding(2));
+    assertEquals(
+        List.of(DateTimeRange.of(BASE.plusMinutes(600), BASE.plusMinutes(720))),
+        profile.intervalsExceeding(1));
+    assertArrayEquals(new long[] {0, 7200, 7200, 1}, profile.histogram());
+  }
+
+  @Test
+  void gapsAreCountedAtLevelZero() {
+    ConcurrencyProfile profile =
+        ConcurrencyProfile.of(List.of(minutes(0, 10), minutes(20, 30), minutes(20, 25)), true);
+
+    assertArrayEquals(new long[] {600, 900, 300}, profile.histogram());
+    assertEquals(List.of(minutes(0, 10), minutes(20, 30)), profile.intervalsExceeding(0));
+  }
+
+  @Test
+  void emptyAndZeroLengthRanges() {
+    ConcurrencyProfile empty = ConcurrencyProfile.builder(true).build();
+    assertEquals(0, empty.peak());
+    assertEquals(0, empty.times().length);
+    assertEquals(0, empty.concurrencyAt(BASE));
+    assertArrayEquals(new long[] {0}, empty.histogram());
+    assertEquals(List.of(), empty.intervalsExceeding(0));
+
+    assertEquals(0, ConcurrencyProfile.of(List.of(minutes(5, 5)), true).peak());
+    ConcurrencyProfile instant = ConcurrencyProfile.of(List.of(minutes(5, 5)), false);
+    assertEquals(1, instant.concurrencyAt(BASE.plusMinutes(5)));
+    assertEquals(List.of(minutes(5, 5)), instant.intervalsExceeding(0));
+  }
+
+  @Test
+  void sweepMatchesBruteForce() {
+    Random random = new Random(25);
+    List<DateTimeRange> ranges = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      int start = random.nextInt(1000);
+      ranges.add(minutes(start, start + random.nextInt(60)));
+    }
+
+    for (boolean exclusive : new boolean[] {false, true}) {
+      ConcurrencyProfile profile = ConcurrencyProfile.of(ranges, exclusive);
+      int peak = 0;
+      for (int minute = -1; minute <= 1061; minute++) {
+        LocalDateTime dateTime = BASE.plusMinutes(minute);
+        int expected = 0;
+        for (DateTimeRange range : ranges) {
+          if (exclusive
+              ? range.containsDateTimeExclusiveOfEndDateTime(dateTime)
+              : range.containsDateTime(dateTime)) {
+            expected++;
+          }
+        }
+        assertEquals(expected, profile.concurrencyAt(dateTime));
+        peak = Math.max(peak, expected);
+      }
+      assertEquals(peak, profile.peak());
+    }
+  }
+
+  @Test
+  void rejectsInvalidRanges() {
+    ConcurrencyProfile.Builder builder = ConcurrencyProfile.builder(false);
+
+    assertThrows(IllegalArgumentException.class, () -> builder.add(null));
+    assertThrows(IllegalArgumentException.class, () -> builder.add(minutes(10, 5)));
+    assertEquals(0, builder.build().peak());
+
+    ConcurrencyProfile profile = ConcurrencyProfile.of(List.of(minutes(0, 5)), false);
+    assertThrows(IllegalArgumentException.class, () -> profile.intervalsExceeding(-1));
+  }
+}
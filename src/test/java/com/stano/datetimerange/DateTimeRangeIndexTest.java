@@ -0,0 +1,110 @@
+package com.stano.datetimerange;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateTimeRangeIndexTest {
+
+  private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 10, 0, 0);
+
+  private static DateTimeRange minutes(int startOffset, int endOffset) {
+    return DateTimeRange.of(BASE.plusMinutes(startOffset), BASE.plusMinutes(endOffset));
+  }
+
+  @Test
+  void queriesReturnPayloadsInStartOrder() {
+    DateTimeRangeIndex<String> index = DateTimeRangeIndex.create();
+    index.insert(minutes(60, 120), "c");
+    index.insert(minutes(0, 180), "a");
+    index.insert(minutes(30, 45), "b");
+    index.insert(minutes(120, 240), "d");
+    index.insert(minutes(300, 300), "e");
+
+    assertEquals(5, index.size());
+    assertEquals(List.of("a", "c", "d"), index.containing(BASE.plusMinutes(120)));
+    assertEquals(List.of("a", "c", "d"), index.overlapping(minutes(90, 150), false));
+    assertEquals(List.of("a", "c", "d"), index.overlapping(minutes(120, 130), false));
+    assertEquals(List.of("a", "d"), index.overlapping(minutes(120, 130), true));
+    assertEquals(List.of("d", "e"), index.overlapping(minutes(240, 300), false));
+    assertEquals(List.of(), index.overlapping(minutes(240, 300), true));
+    assertEquals(List.of(), index.overlapping(minutes(241, 299), false));
+  }
+
+  @Test
+  void anyOverlapHonoursExclusiveBoundaries() {
+    DateTimeRangeIndex<Integer> index = DateTimeRangeIndex.create();
+    index.insert(minutes(0, 60), 1);
+    index.insert(minutes(120, 180), 2);
+
+    assertTrue(index.anyOverlap(minutes(60, 120), false));
+    assertFalse(index.anyOverlap(minutes(60, 120), true));
+    assertTrue(index.anyOverlap(minutes(59, 61), true));
+    assertFalse(index.anyOverlap(minutes(181, 200), false));
+    assertFalse(DateTimeRangeIndex.<Integer>create().anyOverlap(minutes(0, 1), false));
+  }
+
+  @Test
+  void removeTakesOutOneMatchingEntry() {
+    DateTimeRangeIndex<String> index = DateTimeRangeIndex.create();
+    index.insert(minutes(0, 60), "x");
+    index.insert(minutes(0, 60), "y");
+    index.insert(minutes(0, 60), "x");
+
+    assertTrue(index.remove(minutes(0, 60), "x"));
+    assertFalse(index.remove(minutes(0, 61), "y"));
+    assertFalse(index.remove(minutes(0, 60), "z"));
+    assertEquals(2, index.size());
+    assertEquals(2, index.containing(BASE.plusMinutes(30)).size());
+
+    index.clear();
+    assertTrue(index.isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> index.insert(minutes(10, 5), "bad"));
+  }
+
+  @Test
+  void matchesLinearScanUnderRandomInsertsAndRemoves() {
+    Random random = new Random(7);
+    DateTimeRangeIndex<Integer> index = DateTimeRangeIndex.create();
+    List<DateTimeRange> ranges = new ArrayList<>();
+    List<Integer> payloads = new ArrayList<>();
+
+    for (int step = 0; step < 3000; step++) {
+      if (!ranges.isEmpty() && random.nextInt(3) == 0) {
+        int victim = random.nextInt(ranges.size());
+        assertTrue(index.remove(ranges.remove(victim), payloads.remove(victim)));
+      } else {
+        int start = random.nextInt(10_000);
+        DateTimeRange range = minutes(start, start + random.nextInt(200));
+        index.insert(range, step);
+        ranges.add(range);
+        payloads.add(step);
+      }
+
+      if (step % 50 == 0) {
+        int start = random.nextInt(10_000);
+        DateTimeRange query = minutes(start, start + random.nextInt(100));
+        for (boolean exclusive : new boolean[] {false, true}) {
+          List<Integer> expected = new ArrayList<>();
+          for (int i = 0; i < ranges.size(); i++) {
+            boolean hit =
+                exclusive ? ranges.get(i).overlapsExclusive(query) : ranges.get(i).overlaps(query);
+            if (hit) {
+              expected.add(payloads.get(i));
+            }
+          }
+          List<Integer> actual = index.overlapping(query, exclusive);
+          assertEquals(expected.size(), actual.size());
+          assertTrue(actual.containsAll(expected));
+          assertEquals(!expected.isEmpty(), index.anyOverlap(query, exclusive));
+        }
+      }
+    }
+    assertEquals(ranges.size(), index.size());
+  }
+}
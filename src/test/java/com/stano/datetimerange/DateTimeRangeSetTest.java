@@ -0,0 +1,136 @@
+package com.stano.datetimerange;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateTimeRangeSetTest {
+
+  @Test
+  void buildMergesOverlappingAndTouchingRanges() {
+    DateTimeRangeSet set =
+        DateTimeRangeSet.builder()
+            .add(range(13, 0, 15, 0))
+            .add(range(9, 0, 10, 0))
+            .add(range(10, 0, 11, 0)) // touches: merged
+            .add(range(14, 0, 16, 0)) // overlaps: merged
+            .build();
+
+    assertEquals(List.of(range(9, 0, 11, 0), range(13, 0, 16, 0)), set.ranges());
+    assertEquals(Duration.ofHours(5), set.totalDuration());
+    assertTrue(set.containsDateTime(at(11, 0)));
+    assertFalse(set.containsDateTime(at(12, 0)));
+    assertTrue(set.containsRange(range(13, 30, 15, 30)));
+    assertFalse(set.containsRange(range(10, 30, 13, 30)));
+    assertSame(DateTimeRangeSet.empty(), DateTimeRangeSet.of(List.of()));
+  }
+
+  @Test
+  void overlapQueriesMatchRangeSemantics() {
+    DateTimeRangeSet set = DateTimeRangeSet.of(List.of(range(9, 0, 12, 0)));
+    DateTimeRange touching = range(12, 0, 13, 0);
+
+    assertTrue(set.overlapsAny(touching));
+    assertFalse(set.overlapsAnyExclusive(touching));
+    assertTrue(set.overlapsAnyExclusive(range(11, 59, 13, 0)));
+    assertFalse(set.overlapsAny(range(12, 1, 13, 0)));
+    assertFalse(set.overlapsAny(range(8, 0, 8, 59)));
+  }
+
+  @Test
+  void availabilityIsWorkingHoursMinusMeetingsMinusLeave() {
+    DateTimeRangeSet working = DateTimeRangeSet.of(List.of(range(9, 0, 17, 0)));
+    DateTimeRangeSet meetings =
+        DateTimeRangeSet.of(List.of(range(8, 30, 9, 30), range(12, 0, 13, 0)));
+    DateTimeRangeSet leave = DateTimeRangeSet.of(List.of(range(16, 0, 18, 0)));
+
+    DateTimeRangeSet free = working.subtract(meetings).subtract(leave);
+
+    assertEquals(List.of(range(9, 30, 12, 0), range(13, 0, 16, 0)), free.ranges());
+    assertEquals(Duration.ofMinutes(330), free.totalDuration());
+    assertEquals(free, meetings.union(leave).complementWithin(range(9, 0, 17, 0)));
+  }
+
+  @Test
+  void intersectKeepsTouchingInstantsOnlyWhenInclusive() {
+    DateTimeRangeSet morning = DateTimeRangeSet.of(List.of(range(9, 0, 12, 0)));
+    DateTimeRangeSet afternoon = DateTimeRangeSet.of(List.of(range(12, 0, 17, 0)));
+
+    assertEquals(List.of(range(12, 0, 12, 0)), morning.intersect(afternoon).ranges());
+    assertTrue(morning.intersectExclusive(afternoon).isEmpty());
+    assertEquals(List.of(range(9, 0, 17, 0)), morning.union(afternoon).ranges());
+  }
+
+  @Test
+  void subtractHandlesZeroLengthRanges() {
+    DateTimeRangeSet day = DateTimeRangeSet.of(List.of(range(9, 0, 17, 0)));
+    DateTimeRangeSet instant = DateTimeRangeSet.of(List.of(range(12, 0, 12, 0)));
+
+    assertEquals(day, day.subtract(instant));
+    assertTrue(instant.subtract(day).isEmpty());
+    assertEquals(instant, instant.subtract(DateTimeRangeSet.of(List.of(range(13, 0, 14, 0)))));
+  }
+
+  @Test
+  void operationsAgreeWithMinuteByMinuteModel() {
+    Random random = new Random(42);
+    for (int round = 0; round < 200; round++) {
+      List<DateTimeRange> a = randomRanges(random);
+      List<DateTimeRange> b = randomRanges(random);
+      DateTimeRangeSet setA = DateTimeRangeSet.of(a);
+      DateTimeRangeSet setB = DateTimeRangeSet.of(b);
+
+      for (int minute = 0; minute <= 120; minute++) {
+        LocalDateTime t = at(0, 0).plusMinutes(minute);
+        boolean inA = covers(a, t);
+        boolean inB = covers(b, t);
+        assertEquals(inA, setA.containsDateTime(t));
+        assertEquals(inA || inB, setA.union(setB).containsDateTime(t));
+        assertEquals(inA && inB, setA.intersect(setB).containsDateTime(t));
+        if (inA && !inB) {
+          assertTrue(setA.subtract(setB).containsDateTime(t));
+        }
+        if (setA.subtract(setB).containsDateTime(t)) {
+          assertTrue(inA);
+        }
+      }
+      assertEquals(
+          setA.totalDuration(),
+          setA.subtract(setB).totalDuration().plus(setA.intersectExclusive(setB).totalDuration()));
+    }
+  }
+
+  private static List<DateTimeRange> randomRanges(Random random) {
+    List<DateTimeRange> ranges = new ArrayList<>();
+    for (int i = random.nextInt(6); i > 0; i--) {
+      int start = random.nextInt(110);
+      ranges.add(
+          DateTimeRange.of(
+              at(0, 0).plusMinutes(start), at(0, 0).plusMinutes(start + random.nextInt(15))));
+    }
+    return ranges;
+  }
+
+  private static boolean covers(List<DateTimeRange> ranges, LocalDateTime dateTime) {
+    for (DateTimeRange range : ranges) {
+      if (range.containsDateTime(dateTime)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static DateTimeRange range(int startHour, int startMinute, int endHour, int endMinute) {
+    return DateTimeRange.of(at(startHour, startMinute), at(endHour, endMinute));
+  }
+
+  private static LocalDateTime at(int hour, int minute) {
+    return LocalDateTime.of(2025, 3, 10, hour, minute);
+  }
+}
@@ -7,10 +7,16 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Base64;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -419,6 +425,125 @@ class DateTimeRangeTest {
     assertEquals(duration, dateTimeRange.overlapDuration(otherDateTimeRange));
   }
 
+  @Test
+  void epochSecondsFollowTheLocalTimeLine() {
+    DateTimeRange dateTimeRange =
+        DateTimeRange.of(ldt(1969, 12, 31, 23, 59), ldt(1970, 1, 1, 1, 0));
+
+    assertEquals(-60, dateTimeRange.startEpochSecond());
+    assertEquals(3600, dateTimeRange.endEpochSecond());
+  }
+
+  @Test
+  void comparisonsHonourFractionsOfASecond() {
+    LocalDateTime nine = ldt(2024, 5, 1, 9, 0);
+    DateTimeRange first = DateTimeRange.of(nine, nine.plusNanos(500));
+    DateTimeRange second = DateTimeRange.of(nine.plusNanos(501), nine.plusSeconds(1));
+
+    assertFalse(first.overlaps(second));
+    assertTrue(first.overlaps(DateTimeRange.of(nine.plusNanos(500), nine.plusSeconds(1))));
+    assertTrue(first.compareTo(second) < 0);
+    assertTrue(first.containsDateTime(nine.plusNanos(250)));
+    assertFalse(first.containsDateTime(nine.plusNanos(501)));
+    assertNotEquals(first, DateTimeRange.of(nine, nine.plusNanos(499)));
+    assertEquals(Duration.ofNanos(500), first.getDuration());
+    assertEquals(
+        Duration.ofSeconds(1).minusNanos(1),
+        DateTimeRange.of(nine.plusNanos(1), nine.plusSeconds(1)).getDuration());
+  }
+
+  @Test
+  void deserializedRangesKeepTheirPrimitiveForm() throws Exception {
+    DateTimeRange dateTimeRange =
+        DateTimeRange.of(ldt(2024, 5, 1, 9, 0), ldt(2024, 5, 1, 17, 0).plusNanos(7));
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(dateTimeRange);
+    }
+    DateTimeRange copy;
+    try (ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      copy = (DateTimeRange) in.readObject();
+    }
+
+    assertEquals(dateTimeRange, copy);
+    assertEquals(dateTimeRange.endEpochSecond(), copy.endEpochSecond());
+    assertTrue(copy.overlaps(dateTimeRange));
+  }
+
+  @Test
+  void deserializesRangesWrittenBeforeThePrimitiveForm() throws Exception {
+    // DateTimeRange.of(2025-03-10T09:00:00.000000500, 2025-03-10T17:30), written by the class as it
+    // was before it cached epoch seconds.
+    String written =
+        "rO0ABXNyACVjb20uc3Rhbm8uZGF0ZXRpbWVyYW5nZS5EYXRlVGltZVJhbmdl0A6oblx83gIC"
+            + "AAJMAAtlbmREYXRlVGltZXQAGUxqYXZhL3RpbWUvTG9jYWxEYXRlVGltZTtMAA1zdGFydERh"
+            + "dGVUaW1lcQB+AAF4cHNyAA1qYXZhLnRpbWUuU2VylV2EuhsiSLIMAAB4cHcJBQAAB+kDChHh"
+            + "eHNxAH4AA3cOBQAAB+kDCgkAAAAAAfR4";
+    byte[] bytes = Base64.getDecoder().decode(written);
+
+    DateTimeRange copy;
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      copy = (DateTimeRange) in.readObject();
+    }
+
+    DateTimeRange expected =
+        DateTimeRange.of(ldt(2025, 3, 10, 9, 0).plusNanos(500), ldt(2025, 3, 10, 17, 30));
+    assertEquals(expected, copy);
+    assertEquals(expected.startEpochSecond(), copy.startEpochSecond());
+    assertEquals(Duration.ofHours(8).plusMinutes(30).minusNanos(500), copy.getDuration());
+  }
+
+  @Test
+  void overlapSecondsAndMinutesReturnWholeUnits() {
+    DateTimeRange shift = DateTimeRange.of(ldt(2024, 5, 1, 9, 0), ldt(2024, 5, 1, 17, 0));
+    DateTimeRange window =
+        DateTimeRange.of(ldt(2024, 5, 1, 16, 0).plusSeconds(30), ldt(2024, 5, 1, 18, 0));
+
+    DateTimeRange touching = DateTimeRange.of(ldt(2024, 5, 1, 17, 0), ldt(2024, 5, 1, 18, 0));
+    DateTimeRange nextDay = DateTimeRange.of(ldt(2024, 5, 2, 9, 0), ldt(2024, 5, 2, 10, 0));
+
+    assertEquals(3570, shift.overlapSeconds(window));
+    assertEquals(59, shift.overlapMinutes(window));
+    assertEquals(0, shift.overlapSeconds(touching));
+    assertEquals(0, shift.overlapSeconds(null));
+    assertEquals(0, shift.overlapMinutes(nextDay));
+
+    DateTimeRange fractional =
+        DateTimeRange.of(ldt(2024, 5, 1, 16, 59).plusNanos(700), ldt(2024, 5, 1, 18, 0));
+    assertEquals(59, shift.overlapSeconds(fractional));
+    assertEquals(Duration.ofSeconds(60).minusNanos(700), shift.overlapDuration(fractional));
+  }
+
+  @Test
+  void totalOverlapMergeJoinsSortedSequences() {
+    List<DateTimeRange> shifts =
+        List.of(
+            DateTimeRange.of(ldt(2024, 5, 1, 6, 0), ldt(2024, 5, 1, 14, 0)),
+            DateTimeRange.of(ldt(2024, 5, 1, 22, 0), ldt(2024, 5, 2, 6, 0)),
+            DateTimeRange.of(ldt(2024, 5, 2, 6, 0), ldt(2024, 5, 2, 9, 0)));
+    List<DateTimeRange> payWindows =
+        List.of(
+            DateTimeRange.of(ldt(2024, 5, 1, 0, 0), ldt(2024, 5, 1, 8, 0)),
+            DateTimeRange.of(ldt(2024, 5, 1, 20, 0), ldt(2024, 5, 2, 8, 0)));
+
+    Duration expected = Duration.ZERO;
+    for (DateTimeRange shift : shifts) {
+      for (DateTimeRange payWindow : payWindows) {
+        expected = expected.plus(shift.overlapDuration(payWindow));
+      }
+    }
+
+    assertEquals(Duration.ofHours(12), expected);
+    assertEquals(expected, DateTimeRange.totalOverlap(shifts, payWindows));
+    assertEquals(expected, DateTimeRange.totalOverlap(payWindows, shifts));
+    assertEquals(Duration.ZERO, DateTimeRange.totalOverlap(shifts, List.of()));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> DateTimeRange.totalOverlap(List.of(shifts.get(1), shifts.get(0)), payWindows));
+  }
+
   private static LocalDateTime ldt(int year, int month, int day, int hour, int minute) {
     return LocalDateTime.of(year, month, day, hour, minute);
   }